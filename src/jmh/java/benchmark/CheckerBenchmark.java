@@ -0,0 +1,40 @@
+/* Licensed under MIT 2025. */
+package benchmark;
+
+import checker.CheckerException;
+import checker.CheckerReturn;
+import checker.ExportType;
+import checker.MiLoGChecker;
+import data.TimeSheet;
+import org.openjdk.jmh.annotations.*;
+import parser.ParseException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking a time sheet with the computed holidays, so the results do
+ * not depend on the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckerBenchmark {
+
+	@Param({ "1", "22", "1000", "100000" })
+	private int entries;
+
+	private TimeSheet timeSheet;
+
+	@Setup
+	public void setUp() throws ParseException {
+		timeSheet = SyntheticTimeSheets.timeSheet(entries);
+	}
+
+	@Benchmark
+	public CheckerReturn check() throws CheckerException {
+		return new MiLoGChecker(timeSheet, ExportType.EXPORT_LATEX).check();
+	}
+}
@@ -0,0 +1,51 @@
+/* Licensed under MIT 2025. */
+package benchmark;
+
+import data.TimeSheet;
+import io.FileController;
+import io.LatexGenerator;
+import org.openjdk.jmh.annotations.*;
+import parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating the LaTeX document of a time sheet and escaping the
+ * LaTeX special characters of its actions with the ContextStringReplacer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatexGeneratorBenchmark {
+
+	@Param({ "1", "22", "1000", "100000" })
+	private int entries;
+
+	private String template;
+	private TimeSheet timeSheet;
+	private String actionText;
+
+	@Setup
+	public void setUp() throws IOException, ParseException {
+		try (InputStream templateStream = LatexGeneratorBenchmark.class.getClassLoader().getResourceAsStream("MiLoG_Template.tex")) {
+			template = FileController.readInputStreamToString(templateStream);
+		}
+		timeSheet = SyntheticTimeSheets.timeSheet(entries);
+		actionText = SyntheticTimeSheets.actionText(entries);
+	}
+
+	@Benchmark
+	public String generate() {
+		return new LatexGenerator(timeSheet, template).generate();
+	}
+
+	@Benchmark
+	public String escapeText() {
+		return LatexGenerator.escapeText(actionText);
+	}
+}
@@ -0,0 +1,46 @@
+/* Licensed under MIT 2025. */
+package benchmark;
+
+import data.Entry;
+import org.openjdk.jmh.annotations.*;
+import parser.ParseException;
+import parser.json.JsonMonthParser;
+import parser.json.StreamingJsonMonthParser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the entries of a month file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({ "1", "22", "1000", "100000" })
+	private int entries;
+
+	private String monthJson;
+	private byte[] monthBytes;
+
+	@Setup
+	public void setUp() {
+		monthJson = SyntheticTimeSheets.monthJson(entries);
+		monthBytes = monthJson.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Entry[] jsonMonthParser() throws ParseException {
+		return new JsonMonthParser(monthJson).getEntries();
+	}
+
+	@Benchmark
+	public Entry[] streamingJsonMonthParser() throws ParseException {
+		return new StreamingJsonMonthParser(new ByteArrayInputStream(monthBytes)).getEntries();
+	}
+}
@@ -0,0 +1,48 @@
+/* Licensed under MIT 2025. */
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import parser.json.JsonMappers;
+import ui.export.PDFCompiler;
+import ui.json.Global;
+import ui.json.Month;
+import ui.json.UISettings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling and writing the PDF form. The form has a fixed number of
+ * rows, so it is only measured up to a full form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdfBenchmark {
+
+	/** A single row and all rows of the form. */
+	@Param({ "1", "22" })
+	private int entries;
+
+	private Global global;
+	private Month month;
+	private UISettings settings;
+
+	@Setup
+	public void setUp() throws IOException {
+		global = JsonMappers.getUiReader(Global.class).readValue(SyntheticTimeSheets.GLOBAL_JSON);
+		month = JsonMappers.getUiReader(Month.class).readValue(SyntheticTimeSheets.monthJson(entries));
+		settings = new UISettings();
+		PDFCompiler.preloadTemplate();
+	}
+
+	@Benchmark
+	public Optional<String> compileToPDF() {
+		return PDFCompiler.compileToPDF(global, month, OutputStream.nullOutputStream(), settings);
+	}
+}
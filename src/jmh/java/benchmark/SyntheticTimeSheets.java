@@ -0,0 +1,105 @@
+/* Licensed under MIT 2025. */
+package benchmark;
+
+import data.TimeSheet;
+import parser.ParseException;
+import parser.Parser;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates deterministic time sheets of any size for the benchmarks. The
+ * entries are spread over all days of November 2019 that are neither Sundays
+ * nor holidays, one hour slot after another, so small time sheets are valid
+ * and large time sheets reach every rule of the checker. The actions contain
+ * LaTeX special characters to exercise the escaping.
+ */
+public final class SyntheticTimeSheets {
+
+	/**
+	 * The global data of all generated time sheets.
+	 */
+	public static final String GLOBAL_JSON = "{\"name\": \"Max Mustermann\", \"staffId\": 1234567, \"department\": \"Fakultät für Informatik\","
+			+ " \"workingTime\": \"40:00\", \"wage\": 12.41, \"workingArea\": \"ub\"}";
+
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2019, 11);
+	private static final LocalDate HOLIDAY = YEAR_MONTH.atDay(1);
+	private static final int FIRST_HOUR = 8;
+	private static final int SLOTS_PER_DAY = 12;
+	private static final int ENTRY_MINUTES = 50;
+
+	private SyntheticTimeSheets() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * Creates the json of a month file.
+	 *
+	 * @param entries - the number of entries of the month.
+	 * @return The json of the month.
+	 */
+	public static String monthJson(int entries) {
+		List<LocalDate> workingDays = workingDays();
+		StringBuilder json = new StringBuilder(64 + entries * 100);
+		json.append("{\"year\": ").append(YEAR_MONTH.getYear()).append(", \"month\": ").append(YEAR_MONTH.getMonthValue());
+		json.append(", \"pred_transfer\": \"0:00\", \"succ_transfer\": \"0:00\", \"entries\": [");
+		for (int i = 0; i < entries; i++) {
+			int slot = i / workingDays.size() % SLOTS_PER_DAY;
+			int startMinutes = (FIRST_HOUR + slot) * 60;
+			json.append(i == 0 ? "" : ",").append("{\"action\": \"").append(action(i)).append('"');
+			json.append(", \"day\": ").append(workingDays.get(i % workingDays.size()).getDayOfMonth());
+			json.append(", \"start\": \"").append(time(startMinutes)).append('"');
+			json.append(", \"end\": \"").append(time(startMinutes + ENTRY_MINUTES)).append('"');
+			json.append(", \"pause\": \"00:00\"}");
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * Creates a time sheet with the entries of {@link #monthJson(int)}.
+	 *
+	 * @param entries - the number of entries of the time sheet.
+	 * @return The time sheet.
+	 * @throws ParseException if the generated json cannot be parsed.
+	 */
+	public static TimeSheet timeSheet(int entries) throws ParseException {
+		return Parser.parseTimeSheetJson(GLOBAL_JSON, monthJson(entries));
+	}
+
+	/**
+	 * Creates a text of the actions of {@link #monthJson(int)}.
+	 *
+	 * @param entries - the number of actions in the text.
+	 * @return The actions, separated by spaces.
+	 */
+	public static String actionText(int entries) {
+		StringBuilder text = new StringBuilder(entries * 40);
+		for (int i = 0; i < entries; i++) {
+			text.append(action(i)).append(' ');
+		}
+		return text.toString();
+	}
+
+	private static String action(int index) {
+		return "Übung & Korrektur #%d (50%% Tutorium_%d) {Blatt $%d}".formatted(index, index % 7, index % 13);
+	}
+
+	private static String time(int minutes) {
+		return "%02d:%02d".formatted(minutes / 60, minutes % 60);
+	}
+
+	private static List<LocalDate> workingDays() {
+		List<LocalDate> workingDays = new ArrayList<>();
+		for (int day = 1; day <= YEAR_MONTH.lengthOfMonth(); day++) {
+			LocalDate date = YEAR_MONTH.atDay(day);
+			if (date.getDayOfWeek() != DayOfWeek.SUNDAY && !date.equals(HOLIDAY)) {
+				workingDays.add(date);
+			}
+		}
+		return workingDays;
+	}
+}
@@ -0,0 +1,40 @@
+/* Licensed under MIT 2025. */
+package checker;
+
+import data.Entry;
+import data.TimeSheetStatistics.DayStatistics;
+
+import java.util.Collection;
+
+/**
+ * An EntryRule is a rule of an {@link IChecker} that is checked by an
+ * {@link EntryRuleEngine} in a single pass over the sorted {@link Entry
+ * entries} of a time sheet. A rule can check every entry on its own and every
+ * day as a whole.
+ */
+interface EntryRule {
+
+	/**
+	 * Checks a single {@link Entry}. Entries are passed sorted by date and start
+	 * time.
+	 *
+	 * @param entry    - to be checked.
+	 * @param previous - the entry passed before this one, {@code null} for the
+	 *                 first entry.
+	 * @param errors   - to add the errors found to.
+	 */
+	default void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+		// Rule does not check single entries
+	}
+
+	/**
+	 * Checks a whole day after all of its {@link Entry entries} were passed to
+	 * {@link #checkEntry(Entry, Entry, Collection)}.
+	 *
+	 * @param day    - the statistics of the day.
+	 * @param errors - to add the errors found to.
+	 */
+	default void checkDay(DayStatistics day, Collection<CheckerError> errors) {
+		// Rule does not check whole days
+	}
+}
@@ -0,0 +1,105 @@
+/* Licensed under MIT 2025. */
+package checker;
+
+import data.Entry;
+import data.TimeSheet;
+import data.TimeSheetStatistics.DayStatistics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The EntryRuleEngine checks any number of {@link EntryRule entry rules} in one
+ * pass over the sorted {@link Entry entries} of a {@link TimeSheet}. All rules
+ * share the {@link DayStatistics} of the time sheet. The errors of every rule are collected
+ * separately and returned in the order of the rules, so the result does not
+ * depend on whether rules are checked together or one after another.
+ */
+final class EntryRuleEngine {
+
+	private EntryRuleEngine() {
+		// Don't allow instances of this class
+	}
+
+	/**
+	 * Checks the given rules against the entries of a time sheet.
+	 *
+	 * @param timeSheet - whose entries are checked.
+	 * @param rules     - to be checked.
+	 * @return The errors found, grouped by rule in the order of the rules and in
+	 *         the order of the entries within each rule.
+	 */
+	static List<CheckerError> check(TimeSheet timeSheet, List<? extends EntryRule> rules) {
+		List<CheckerError> errors = new ArrayList<>();
+		for (List<CheckerError> errorsOfRule : checkByRule(timeSheet, rules)) {
+			errors.addAll(errorsOfRule);
+		}
+		return errors;
+	}
+
+	/**
+	 * Checks the given rules against the entries of a time sheet, keeping the
+	 * errors of every rule apart.
+	 *
+	 * @param timeSheet - whose entries are checked.
+	 * @param rules     - to be checked.
+	 * @return One list of errors per rule, in the order of the rules. Each list is
+	 *         in the order of the entries.
+	 */
+	static List<List<CheckerError>> checkByRule(TimeSheet timeSheet, List<? extends EntryRule> rules) {
+		List<List<CheckerError>> ruleErrors = new ArrayList<>(rules.size());
+		for (int i = 0; i < rules.size(); i++) {
+			ruleErrors.add(new ArrayList<>());
+		}
+
+		Iterator<DayStatistics> days = timeSheet.getStatistics().getDays().iterator();
+		Entry previous = null;
+		for (Entry entry : timeSheet.getEntries()) {
+			if (previous != null && !previous.getDate().equals(entry.getDate())) {
+				checkDay(days.next(), rules, ruleErrors);
+			}
+
+			for (int i = 0; i < rules.size(); i++) {
+				rules.get(i).checkEntry(entry, previous, ruleErrors.get(i));
+			}
+			previous = entry;
+		}
+		if (previous != null) {
+			checkDay(days.next(), rules, ruleErrors);
+		}
+		return ruleErrors;
+	}
+
+	/**
+	 * Checks the given rules against the entries of a single day, keeping the
+	 * errors of every rule apart.
+	 *
+	 * @param entriesOfDay - the entries of one day, at least one, sorted by start
+	 *                     time.
+	 * @param rules        - to be checked.
+	 * @return One list of errors per rule, in the order of the rules.
+	 */
+	static List<List<CheckerError>> checkDay(List<Entry> entriesOfDay, List<? extends EntryRule> rules) {
+		List<List<CheckerError>> ruleErrors = new ArrayList<>(rules.size());
+		for (int i = 0; i < rules.size(); i++) {
+			ruleErrors.add(new ArrayList<>());
+		}
+
+		Entry previous = null;
+		for (Entry entry : entriesOfDay) {
+			for (int i = 0; i < rules.size(); i++) {
+				rules.get(i).checkEntry(entry, previous, ruleErrors.get(i));
+			}
+			previous = entry;
+		}
+		checkDay(DayStatistics.of(entriesOfDay), rules, ruleErrors);
+		return ruleErrors;
+	}
+
+	private static void checkDay(DayStatistics day, List<? extends EntryRule> rules, List<List<CheckerError>> ruleErrors) {
+		for (int i = 0; i < rules.size(); i++) {
+			rules.get(i).checkDay(day, ruleErrors.get(i));
+		}
+	}
+}
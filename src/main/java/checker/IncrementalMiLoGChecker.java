@@ -0,0 +1,141 @@
+/* Licensed under MIT 2025. */
+package checker;
+
+import checker.holiday.ComputedGermanyHolidayChecker;
+import checker.holiday.IHolidayChecker;
+import data.Entry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The IncrementalMiLoGChecker checks the rules of the {@link MiLoGChecker} that
+ * are based on single entries and days while the entries are edited. It keeps
+ * the entries and errors of every day, so adding or removing an {@link Entry}
+ * only checks the day of the entry again instead of the whole time sheet.<br/>
+ * <br/>
+ * Rules based on the whole time sheet, like the total working time, are not
+ * checked. The errors of a day are the same as the errors of a full check. This
+ * class is not thread-safe.
+ */
+public class IncrementalMiLoGChecker {
+
+	private final IHolidayChecker holidayChecker;
+	private final NavigableMap<LocalDate, Day> days = new TreeMap<>();
+
+	/**
+	 * Constructs a new {@link IncrementalMiLoGChecker} instance without entries,
+	 * using the same computed holidays as the {@link MiLoGChecker}.
+	 */
+	public IncrementalMiLoGChecker() {
+		this(new ComputedGermanyHolidayChecker(LocalDate.now().getYear(), MiLoGChecker.STATE));
+	}
+
+	/**
+	 * Constructs a new {@link IncrementalMiLoGChecker} instance without entries.
+	 *
+	 * @param holidayChecker - to check the days of the entries for holidays.
+	 */
+	public IncrementalMiLoGChecker(IHolidayChecker holidayChecker) {
+		this.holidayChecker = holidayChecker;
+	}
+
+	/**
+	 * Adds an entry and checks its day again.
+	 *
+	 * @param entry - to add.
+	 * @throws CheckerException Thrown if an error occurs while fetching holidays
+	 */
+	public void add(Entry entry) throws CheckerException {
+		Day day = days.computeIfAbsent(entry.getDate(), date -> new Day());
+		int index = Collections.binarySearch(day.entries, entry);
+		day.entries.add(index < 0 ? -index - 1 : index, entry);
+		check(day);
+	}
+
+	/**
+	 * Removes an entry and checks its day again.
+	 *
+	 * @param entry - to remove.
+	 * @return True if the entry was found, false otherwise.
+	 * @throws CheckerException Thrown if an error occurs while fetching holidays
+	 */
+	public boolean remove(Entry entry) throws CheckerException {
+		Day day = days.get(entry.getDate());
+		if (day == null || !day.entries.remove(entry)) {
+			return false;
+		}
+
+		if (day.entries.isEmpty()) {
+			days.remove(entry.getDate());
+		} else {
+			check(day);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		days.clear();
+	}
+
+	/**
+	 * Checks whether no errors were found in the current entries.
+	 *
+	 * @return True if there are no errors, false otherwise.
+	 */
+	public boolean isValid() {
+		return days.values().stream().allMatch(day -> day.ruleErrors.stream().allMatch(List::isEmpty));
+	}
+
+	/**
+	 * Checks whether errors were found on a day.
+	 *
+	 * @param date - The day to check.
+	 * @return True if there is at least one error on the day, false otherwise.
+	 */
+	public boolean hasErrors(LocalDate date) {
+		Day day = days.get(date);
+		return day != null && day.ruleErrors.stream().anyMatch(errors -> !errors.isEmpty());
+	}
+
+	/**
+	 * Gets the errors of the current entries, ordered by rule and by date within
+	 * each rule, like the errors of a {@link MiLoGChecker}.
+	 *
+	 * @return A new list of the errors.
+	 */
+	public List<CheckerError> getErrors() {
+		List<CheckerError> errors = new ArrayList<>();
+		if (days.isEmpty()) {
+			return errors;
+		}
+
+		int ruleCount = days.firstEntry().getValue().ruleErrors.size();
+		for (int rule = 0; rule < ruleCount; rule++) {
+			for (Day day : days.values()) {
+				errors.addAll(day.ruleErrors.get(rule));
+			}
+		}
+		return errors;
+	}
+
+	private void check(Day day) throws CheckerException {
+		day.ruleErrors = EntryRuleEngine.checkDay(day.entries, MiLoGChecker.createEntryRules(day.entries, holidayChecker));
+	}
+
+	/**
+	 * The sorted entries of a single day and the errors of their last check, one
+	 * list per rule.
+	 */
+	private static class Day {
+		private final List<Entry> entries = new ArrayList<>();
+		private List<List<CheckerError>> ruleErrors = List.of();
+	}
+}
@@ -1,18 +1,29 @@
 /* Licensed under MIT 2023-2025. */
 package checker;
 
+import checker.holiday.ComputedGermanyHolidayChecker;
 import checker.holiday.GermanState;
 import checker.holiday.GermanyHolidayChecker;
 import checker.holiday.HolidayFetchException;
 import checker.holiday.IHolidayChecker;
 import data.Entry;
 import data.TimeSheet;
+import data.TimeSheetStatistics;
+import data.TimeSheetStatistics.DayStatistics;
 import data.TimeSpan;
 import i18n.ResourceHandler;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * The MiLoGChecker checks whether a {@link TimeSheet} instance is valid or not.
@@ -27,10 +38,14 @@ public class MiLoGChecker implements IChecker {
 
 	// TODO Replace with enum
 	private static final TimeSpan[][] PAUSE_RULES = { { new TimeSpan(6, 0), new TimeSpan(0, 30) }, { new TimeSpan(9, 0), new TimeSpan(0, 45) } };
-	private static final GermanState STATE = GermanState.BW;
+	static final GermanState STATE = GermanState.BW;
+	/** Runs the holiday lookups of checkers whose holidays may have to be fetched. */
+	private static final ExecutorService HOLIDAY_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
 	private final TimeSheet timeSheet;
 	private final int maxRowNum;
+	private final IHolidayChecker holidayChecker;
+	private final Executor holidayExecutor;
 
 	private CheckerReturn result;
 	private final Collection<CheckerError> errors;
@@ -53,7 +68,40 @@ public class MiLoGChecker implements IChecker {
 	 *                   Latex.
 	 */
 	public MiLoGChecker(TimeSheet timeSheet, ExportType exportType) {
+		// Computed holidays never block, so they are looked up on the calling thread
+		this(timeSheet, exportType, new ComputedGermanyHolidayChecker(timeSheet.getYear(), STATE), Runnable::run);
+	}
+
+	/**
+	 * Constructs a new {@link MiLoGChecker} instance.
+	 *
+	 * @param timeSheet      - to be checked.
+	 * @param exportType     The export type, so if this is being exported to PDF
+	 *                       or Latex.
+	 * @param holidayChecker - to check the days of the entries for holidays, e.g.
+	 *                       a {@link GermanyHolidayChecker} to use the holidays of
+	 *                       feiertage-api.de instead of the computed ones. The
+	 *                       holidays are looked up on a virtual thread while the
+	 *                       other rules are checked.
+	 */
+	public MiLoGChecker(TimeSheet timeSheet, ExportType exportType, IHolidayChecker holidayChecker) {
+		this(timeSheet, exportType, holidayChecker, HOLIDAY_EXECUTOR);
+	}
+
+	/**
+	 * Constructs a new {@link MiLoGChecker} instance.
+	 *
+	 * @param timeSheet       - to be checked.
+	 * @param exportType      The export type, so if this is being exported to PDF
+	 *                        or Latex.
+	 * @param holidayChecker  - to check the days of the entries for holidays.
+	 * @param holidayExecutor - to look up the holidays on while the other rules
+	 *                        are checked on the calling thread.
+	 */
+	public MiLoGChecker(TimeSheet timeSheet, ExportType exportType, IHolidayChecker holidayChecker, Executor holidayExecutor) {
 		this.timeSheet = timeSheet;
+		this.holidayChecker = holidayChecker;
+		this.holidayExecutor = holidayExecutor;
 
 		this.result = CheckerReturn.VALID;
 		this.errors = Collections.synchronizedCollection(new ArrayList<>());
@@ -62,7 +110,10 @@ public class MiLoGChecker implements IChecker {
 
 	/**
 	 * Runs all of the needed tests in order to validate the {@link TimeSheet}
-	 * instance.
+	 * instance. The holidays are looked up on the holiday executor while all other
+	 * rules are checked, so waiting for fetched holidays does not delay them. The
+	 * errors are ordered by rule and by date within each rule, independent of
+	 * which rule finishes first.
 	 *
 	 * @return {@link CheckerReturn} value with error or validity message
 	 * @throws CheckerException Thrown if an error occurs while checking the
@@ -73,12 +124,18 @@ public class MiLoGChecker implements IChecker {
 		result = CheckerReturn.VALID;
 		errors.clear();
 
+		CompletableFuture<List<CheckerError>> workingDayErrors = CompletableFuture.supplyAsync(this::findInvalidWorkingDays, holidayExecutor);
+
 		checkTotalTimeExceedance();
-		checkDayTimeExceedance();
-		checkDayPauseTime();
-		checkDayTimeBounds();
-		checkValidWorkingDays();
-		checkTimeOverlap();
+		// All other rules based on single entries and days share one pass over the
+		// entries, while the working days keep their slot in the order of the rules
+		EntryRule workingDaysSlot = new EntryRule() {
+		};
+		List<EntryRule> entryRules = createEntryRules(workingDaysSlot);
+		List<List<CheckerError>> entryErrors = EntryRuleEngine.checkByRule(timeSheet, entryRules);
+		for (int i = 0; i < entryRules.size(); i++) {
+			addErrors(entryRules.get(i) == workingDaysSlot ? awaitErrors(workingDayErrors) : entryErrors.get(i));
+		}
 
 		checkRowNumExceedance();
 		checkDepartmentName();
@@ -86,6 +143,35 @@ public class MiLoGChecker implements IChecker {
 		return result;
 	}
 
+	private List<CheckerError> findInvalidWorkingDays() {
+		try {
+			return EntryRuleEngine.check(timeSheet, List.of(new ValidWorkingDaysRule(timeSheet.getEntries(), holidayChecker)));
+		} catch (CheckerException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private static List<CheckerError> awaitErrors(CompletableFuture<List<CheckerError>> ruleErrors) throws CheckerException {
+		try {
+			return ruleErrors.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CheckerException(e.getMessage());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CheckerException checkerException) {
+				throw checkerException;
+			}
+			throw new CheckerException(e.getCause().getMessage());
+		}
+	}
+
+	private void addErrors(List<CheckerError> ruleErrors) {
+		if (!ruleErrors.isEmpty()) {
+			errors.addAll(ruleErrors);
+			result = CheckerReturn.INVALID;
+		}
+	}
+
 	/**
 	 * Returns a collection of all occurred checker errors during the execution of
 	 * the last call to {@link #check()}
@@ -105,15 +191,16 @@ public class MiLoGChecker implements IChecker {
 		TimeSpan maxWorkingTime = timeSheet.getProfession().getMaxWorkingTime();
 
 		// Sum of all daily working times (without pauses!)
-		TimeSpan totalWorkingTime = timeSheet.getTotalWorkTime();
+		TimeSheetStatistics statistics = timeSheet.getStatistics();
+		int totalWorkingMinutes = statistics.getTotalWorkMinutes();
 
 		// Vacation and transfer corrected time
-		TimeSpan correctedMaxWorkingTime = maxWorkingTime.add(timeSheet.getSuccTransfer()).subtract(timeSheet.getPredTransfer())
-				.subtract(timeSheet.getTotalVacationTime());
+		int correctedMaxWorkingMinutes = TimeSpan.sumMinutes(maxWorkingTime, timeSheet.getSuccTransfer()) - TimeSpan.minutesOf(timeSheet.getPredTransfer())
+				- statistics.getTotalVacationMinutes();
 
-		if (totalWorkingTime.compareTo(correctedMaxWorkingTime) > 0) {
+		if (totalWorkingMinutes > correctedMaxWorkingMinutes) {
 			// Calculate difference
-			TimeSpan difference = totalWorkingTime.subtract(correctedMaxWorkingTime);
+			TimeSpan difference = TimeSpan.ofMinutes(totalWorkingMinutes - correctedMaxWorkingMinutes);
 
 			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TOTAL_TIME_EXCEEDANCE, maxWorkingTime, difference));
 			result = CheckerReturn.INVALID;
@@ -124,88 +211,21 @@ public class MiLoGChecker implements IChecker {
 	 * Checks whether daily maximum working time was exceeded.
 	 */
 	protected void checkDayTimeExceedance() {
-		// This map contains all working days and their summed up working times.
-		Map<LocalDate, TimeSpan> workingTimeMap = new HashMap<>();
-		for (Entry entry : timeSheet.getEntries()) {
-			if (!entry.isVacation()) {
-				// A check is performed whether a day contains more than one entry.
-				if (workingTimeMap.containsKey(entry.getDate())) {
-					// If so, the working times are summed up and written back to the map.
-					TimeSpan summedTime = workingTimeMap.get(entry.getDate()).add(entry.getWorkingTime());
-					workingTimeMap.put(entry.getDate(), summedTime);
-				} else {
-					// If not, a new entry will be created in the map.
-					workingTimeMap.put(entry.getDate(), entry.getWorkingTime());
-				}
-			}
-		}
-
-		for (Map.Entry<LocalDate, TimeSpan> mapEntry : workingTimeMap.entrySet()) {
-			if (WORKDAY_MAX_WORKING_TIME.compareTo(mapEntry.getValue()) < 0) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.DAY_TIME_EXCEEDANCE, WORKDAY_MAX_WORKING_TIME, mapEntry.getKey()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+		checkEntryRules(new DayTimeExceedanceRule());
 	}
 
 	/**
 	 * Checks whether the working time per day meets all legal pause rules.
 	 */
 	protected void checkDayPauseTime() {
-		// This map contains all dates associated with their working times
-		HashMap<LocalDate, TimeSpan[]> workingDays = new HashMap<>();
-
-		for (Entry entry : timeSheet.getEntries()) {
-			if (!entry.isVacation()) {
-				// EndToStart is the number of hours at this work shift.
-				TimeSpan endToStart = entry.getEnd();
-				endToStart = endToStart.subtract(entry.getStart());
-				TimeSpan pause = entry.getPause();
-				LocalDate date = entry.getDate();
-
-				// If a day appears more than once this logic sums all of the working times
-				if (workingDays.containsKey(date)) {
-					TimeSpan oldWorkingTime = workingDays.get(date)[0];
-					endToStart = endToStart.add(oldWorkingTime);
-
-					TimeSpan oldPause = workingDays.get(date)[1];
-					pause = pause.add(oldPause);
-				}
-
-				// Adds the day to the map, replaces the old entry respectively
-				TimeSpan[] mapTimeEntry = { endToStart, pause };
-				workingDays.put(date, mapTimeEntry);
-			}
-		}
-
-		// Check for every mapTimeEntry (first for), whether all Pause Rules (second
-		// for) where met.
-		for (Map.Entry<LocalDate, TimeSpan[]> mapEntry : workingDays.entrySet()) {
-			for (TimeSpan[] pauseRule : PAUSE_RULES) {
-
-				// Checks whether time of entry is greater than pause rule "activation"
-				// time
-				// and pause time is less than the needed time.
-				if (mapEntry.getValue()[0].compareTo(pauseRule[0]) > 0 && mapEntry.getValue()[1].compareTo(pauseRule[1]) < 0) {
-					errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_PAUSE, mapEntry.getKey()));
-					result = CheckerReturn.INVALID;
-					break;
-				}
-			}
-		}
+		checkEntryRules(new DayPauseTimeRule());
 	}
 
 	/**
 	 * Checks whether the working time per day is inside the legal bounds.
 	 */
 	protected void checkDayTimeBounds() {
-		for (Entry entry : timeSheet.getEntries()) {
-			if (entry.getStart().compareTo(WORKDAY_LOWER_BOUND) < 0 || entry.getEnd().compareTo(WORKDAY_UPPER_BOUND) > 0) {
-
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, entry.getDate()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+		checkEntryRules(new DayTimeBoundsRule());
 	}
 
 	/**
@@ -214,44 +234,50 @@ public class MiLoGChecker implements IChecker {
 	 * @throws CheckerException Thrown if an error occurs while fetching holidays
 	 */
 	protected void checkValidWorkingDays() throws CheckerException {
-		IHolidayChecker holidayChecker = new GermanyHolidayChecker(timeSheet.getYear(), STATE);
-		for (Entry entry : timeSheet.getEntries()) {
-			LocalDate localDate = entry.getDate();
-
-			// Checks whether the day of the entry is Sunday
-			if (localDate.getDayOfWeek().equals(DayOfWeek.SUNDAY)) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_SUNDAY, localDate));
-				result = CheckerReturn.INVALID;
-				continue;
-			}
-
-			// Check for each entry whether it is a holiday
-			try {
-				if (holidayChecker.isHoliday(localDate)) {
-					errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY, localDate));
-					result = CheckerReturn.INVALID;
-				}
-			} catch (HolidayFetchException e) {
-				throw new CheckerException(e.getMessage());
-			}
-		}
+		checkEntryRules(new ValidWorkingDaysRule(timeSheet.getEntries(), holidayChecker));
 	}
 
 	/**
 	 * Checks whether times of different entries in the time sheet overlap.
 	 */
 	protected void checkTimeOverlap() {
-		List<Entry> entries = timeSheet.getEntries();
-		if (entries.isEmpty()) {
-			return;
-		}
+		checkEntryRules(new TimeOverlapRule());
+	}
 
-		for (int i = 0; i < entries.size() - 1; i++) {
-			if (entries.get(i).getDate().equals(entries.get(i + 1).getDate()) && entries.get(i).getEnd().compareTo(entries.get(i + 1).getStart()) > 0) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OVERLAP, entries.get(i).getDate()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+	/**
+	 * Creates all rules based on single entries and days, in the order their
+	 * errors are reported by {@link #check()}.
+	 *
+	 * @param entries        - the entries to look up the holidays for, sorted by
+	 *                       date.
+	 * @param holidayChecker - to look up the holidays with.
+	 * @return The rules.
+	 * @throws CheckerException Thrown if an error occurs while fetching holidays
+	 */
+	static List<EntryRule> createEntryRules(List<Entry> entries, IHolidayChecker holidayChecker) throws CheckerException {
+		return createEntryRules(new ValidWorkingDaysRule(entries, holidayChecker));
+	}
+
+	/**
+	 * Creates all rules based on single entries and days, in the order their
+	 * errors are reported by {@link #check()}.
+	 *
+	 * @param validWorkingDaysRule - the rule checking the working days, in its
+	 *                             place among the other rules.
+	 * @return The rules.
+	 */
+	private static List<EntryRule> createEntryRules(EntryRule validWorkingDaysRule) {
+		return List.of(new DayTimeExceedanceRule(), new DayPauseTimeRule(), new DayTimeBoundsRule(), validWorkingDaysRule, new TimeOverlapRule());
+	}
+
+	/**
+	 * Checks the given {@link EntryRule entry rules} in a single pass over the
+	 * entries of the {@link TimeSheet}.
+	 *
+	 * @param rules - to be checked.
+	 */
+	private void checkEntryRules(EntryRule... rules) {
+		addErrors(EntryRuleEngine.check(timeSheet, List.of(rules)));
 	}
 
 	/**
@@ -346,6 +372,123 @@ public class MiLoGChecker implements IChecker {
 		return PAUSE_RULES;
 	}
 
+	/**
+	 * Checks whether the summed up working time of a day exceeds the daily maximum
+	 * working time.
+	 */
+	private static class DayTimeExceedanceRule implements EntryRule {
+
+		private static final int MAX_WORKING_MINUTES = TimeSpan.minutesOf(WORKDAY_MAX_WORKING_TIME);
+
+		@Override
+		public void checkDay(DayStatistics day, Collection<CheckerError> errors) {
+			if (day.hasWork() && day.workingMinutes() > MAX_WORKING_MINUTES) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.DAY_TIME_EXCEEDANCE, WORKDAY_MAX_WORKING_TIME, day.date()));
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the summed up pauses of a day meet all legal pause rules.
+	 */
+	private static class DayPauseTimeRule implements EntryRule {
+
+		@Override
+		public void checkDay(DayStatistics day, Collection<CheckerError> errors) {
+			if (!day.hasWork()) {
+				return;
+			}
+			for (TimeSpan[] pauseRule : PAUSE_RULES) {
+				// Checks whether time of the day is greater than pause rule "activation" time
+				// and pause time is less than the needed time.
+				if (day.shiftMinutes() > TimeSpan.minutesOf(pauseRule[0]) && day.pauseMinutes() < TimeSpan.minutesOf(pauseRule[1])) {
+					errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_PAUSE, day.date()));
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether every entry is inside the legal bounds of a working day.
+	 */
+	private static class DayTimeBoundsRule implements EntryRule {
+
+		@Override
+		public void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+			if (entry.getStart().compareTo(WORKDAY_LOWER_BOUND) < 0 || entry.getEnd().compareTo(WORKDAY_UPPER_BOUND) > 0) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, entry.getDate()));
+			}
+		}
+	}
+
+	/**
+	 * Checks whether every entry is on a valid working day, so neither on a Sunday
+	 * nor on a holiday. The holidays of all months of the entries are looked up
+	 * when the rule is created, so checking an entry is a single bit test.
+	 */
+	private static class ValidWorkingDaysRule implements EntryRule {
+
+		private final YearMonth firstMonth;
+		private final BitSet[] holidaysByMonth;
+
+		/**
+		 * Constructs a new {@link ValidWorkingDaysRule} instance.
+		 *
+		 * @param entries        - to look up the holidays for, sorted by date.
+		 * @param holidayChecker - to look up the holidays with.
+		 * @throws CheckerException Thrown if an error occurs while fetching holidays
+		 */
+		ValidWorkingDaysRule(List<Entry> entries, IHolidayChecker holidayChecker) throws CheckerException {
+			if (entries.isEmpty()) {
+				this.firstMonth = null;
+				this.holidaysByMonth = new BitSet[0];
+				return;
+			}
+
+			this.firstMonth = YearMonth.from(entries.getFirst().getDate());
+			YearMonth lastMonth = YearMonth.from(entries.getLast().getDate());
+			this.holidaysByMonth = new BitSet[(int) firstMonth.until(lastMonth, ChronoUnit.MONTHS) + 1];
+			try {
+				for (int i = 0; i < holidaysByMonth.length; i++) {
+					holidaysByMonth[i] = holidayChecker.holidaysIn(firstMonth.plusMonths(i));
+				}
+			} catch (HolidayFetchException e) {
+				throw new CheckerException(e.getMessage());
+			}
+		}
+
+		@Override
+		public void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+			LocalDate localDate = entry.getDate();
+
+			// Checks whether the day of the entry is Sunday
+			if (localDate.getDayOfWeek().equals(DayOfWeek.SUNDAY)) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_SUNDAY, localDate));
+				return;
+			}
+
+			// Check for each entry whether it is a holiday
+			BitSet holidays = holidaysByMonth[(int) firstMonth.until(YearMonth.from(localDate), ChronoUnit.MONTHS)];
+			if (holidays.get(localDate.getDayOfMonth())) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY, localDate));
+			}
+		}
+	}
+
+	/**
+	 * Checks whether an entry overlaps with the previous entry of the same day.
+	 */
+	private static class TimeOverlapRule implements EntryRule {
+
+		@Override
+		public void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+			if (previous != null && previous.getDate().equals(entry.getDate()) && previous.getEnd().compareTo(entry.getStart()) > 0) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OVERLAP, previous.getDate()));
+			}
+		}
+	}
+
 	/**
 	 * This enum holds the possible error messages (including format specifiers) for
 	 * this checker
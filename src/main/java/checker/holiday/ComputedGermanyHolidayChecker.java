@@ -0,0 +1,165 @@
+/* Licensed under MIT 2025. */
+package checker.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A ComputedGermanyHolidayChecker is a holiday checker implementing
+ * {@link IHolidayChecker} that computes the legal {@link Holiday holidays} of
+ * all different {@link GermanState GermanStates} locally, without any I/O.
+ * Fixed holidays are taken from a table, movable feasts are derived from the
+ * date of Easter Sunday.<br/>
+ * <br/>
+ * The holidays of a year are precomputed into a {@link HolidayIndex}, so
+ * {@link #isHoliday(LocalDate)} is a single bit test. Only holidays of the whole
+ * state are considered, holidays of single municipalities (e.g. the Augsburger
+ * Friedensfest) are not.
+ */
+public class ComputedGermanyHolidayChecker implements IHolidayChecker {
+
+	private static final Set<GermanState> EPIPHANY_STATES = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.ST);
+	private static final Set<GermanState> CORPUS_CHRISTI_STATES = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.HE, GermanState.NW, GermanState.RP,
+			GermanState.SL);
+	private static final Set<GermanState> ASSUMPTION_STATES = EnumSet.of(GermanState.BY, GermanState.SL);
+	private static final Set<GermanState> REFORMATION_STATES = EnumSet.of(GermanState.BB, GermanState.MV, GermanState.SN, GermanState.ST, GermanState.TH);
+	private static final Set<GermanState> REFORMATION_STATES_SINCE_2018 = EnumSet.of(GermanState.HB, GermanState.HH, GermanState.NI, GermanState.SH);
+	private static final Set<GermanState> ALL_SAINTS_STATES = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.NW, GermanState.RP, GermanState.SL);
+
+	private static final Map<IndexKey, HolidayIndex> INDICES = new ConcurrentHashMap<>();
+
+	private final int year;
+	private final GermanState state;
+
+	/**
+	 * Constructs a new {@link ComputedGermanyHolidayChecker} instance.
+	 *
+	 * @param year  - whose {@link Holiday holidays} are returned by
+	 *              {@link #getHolidays()}.
+	 * @param state - of Germany to check for possible {@link Holiday holidays}.
+	 */
+	public ComputedGermanyHolidayChecker(int year, GermanState state) {
+		this.year = year;
+		this.state = state;
+	}
+
+	@Override
+	public boolean isHoliday(LocalDate date) {
+		return getIndex(date.getYear(), state).contains(date);
+	}
+
+	@Override
+	public Collection<Holiday> getHolidays() {
+		return getIndex(year, state).getHolidays();
+	}
+
+	@Override
+	public BitSet holidaysIn(YearMonth yearMonth) {
+		return getIndex(yearMonth.getYear(), state).getDaysOfMonth(yearMonth);
+	}
+
+	private static HolidayIndex getIndex(int year, GermanState state) {
+		return INDICES.computeIfAbsent(new IndexKey(year, state), key -> new HolidayIndex(computeHolidays(key.year(), key.state())));
+	}
+
+	/**
+	 * Computes the legal holidays of a year in a {@link GermanState}, sorted by
+	 * date. For {@link GermanState#NATIONAL}, only the holidays of all states are
+	 * returned.
+	 *
+	 * @param year  - in which the holidays take place.
+	 * @param state - of Germany to compute the holidays for.
+	 * @return The holidays.
+	 */
+	private static List<Holiday> computeHolidays(int year, GermanState state) {
+		LocalDate easterSunday = getEasterSunday(year);
+		List<Holiday> holidays = new ArrayList<>();
+
+		holidays.add(new Holiday(LocalDate.of(year, Month.JANUARY, 1), "Neujahrstag"));
+		if (EPIPHANY_STATES.contains(state)) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.JANUARY, 6), "Heilige Drei Könige"));
+		}
+		if ((state == GermanState.BE && year >= 2019) || (state == GermanState.MV && year >= 2023)) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.MARCH, 8), "Frauentag"));
+		}
+		holidays.add(new Holiday(easterSunday.minusDays(2), "Karfreitag"));
+		if (state == GermanState.BB) {
+			holidays.add(new Holiday(easterSunday, "Ostersonntag"));
+		}
+		holidays.add(new Holiday(easterSunday.plusDays(1), "Ostermontag"));
+		holidays.add(new Holiday(LocalDate.of(year, Month.MAY, 1), "Tag der Arbeit"));
+		if (state == GermanState.BE && (year == 2020 || year == 2025)) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.MAY, 8), "Tag der Befreiung"));
+		}
+		holidays.add(new Holiday(easterSunday.plusDays(39), "Christi Himmelfahrt"));
+		if (state == GermanState.BB) {
+			holidays.add(new Holiday(easterSunday.plusDays(49), "Pfingstsonntag"));
+		}
+		holidays.add(new Holiday(easterSunday.plusDays(50), "Pfingstmontag"));
+		if (CORPUS_CHRISTI_STATES.contains(state)) {
+			holidays.add(new Holiday(easterSunday.plusDays(60), "Fronleichnam"));
+		}
+		if (ASSUMPTION_STATES.contains(state)) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.AUGUST, 15), "Mariä Himmelfahrt"));
+		}
+		if (state == GermanState.TH && year >= 2019) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.SEPTEMBER, 20), "Weltkindertag"));
+		}
+		holidays.add(new Holiday(LocalDate.of(year, Month.OCTOBER, 3), "Tag der Deutschen Einheit"));
+		if (year == 2017 || REFORMATION_STATES.contains(state) || (year >= 2018 && REFORMATION_STATES_SINCE_2018.contains(state))) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.OCTOBER, 31), "Reformationstag"));
+		}
+		if (ALL_SAINTS_STATES.contains(state)) {
+			holidays.add(new Holiday(LocalDate.of(year, Month.NOVEMBER, 1), "Allerheiligen"));
+		}
+		if (state == GermanState.SN) {
+			// The Wednesday before the 23rd of November
+			LocalDate repentanceDay = MonthDay.of(Month.NOVEMBER, 22).atYear(year).with(TemporalAdjusters.previousOrSame(DayOfWeek.WEDNESDAY));
+			holidays.add(new Holiday(repentanceDay, "Buß- und Bettag"));
+		}
+		holidays.add(new Holiday(LocalDate.of(year, Month.DECEMBER, 25), "1. Weihnachtstag"));
+		holidays.add(new Holiday(LocalDate.of(year, Month.DECEMBER, 26), "2. Weihnachtstag"));
+
+		return holidays;
+	}
+
+	/**
+	 * Computes the date of Easter Sunday in the Gregorian calendar using the
+	 * anonymous Gregorian algorithm (Meeus/Jones/Butcher).
+	 *
+	 * @param year - to compute Easter Sunday for.
+	 * @return The date of Easter Sunday.
+	 */
+	static LocalDate getEasterSunday(int year) {
+		int a = year % 19;
+		int b = year / 100;
+		int c = year % 100;
+		int d = b / 4;
+		int e = b % 4;
+		int f = (b + 8) / 25;
+		int g = (b - f + 1) / 3;
+		int h = (19 * a + b - d - g + 15) % 30;
+		int i = c / 4;
+		int k = c % 4;
+		int l = (32 + 2 * e + 2 * i - h - k) % 7;
+		int m = (a + 11 * h + 22 * l) / 451;
+		int month = (h + l - 7 * m + 114) / 31;
+		int day = ((h + l - 7 * m + 114) % 31) + 1;
+		return LocalDate.of(year, month, day);
+	}
+
+	private record IndexKey(int year, GermanState state) {
+	}
+}
@@ -1,30 +1,33 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package checker.holiday;
 
-import io.FileController;
-import parser.IHolidayParser;
-import parser.ParseException;
-import parser.json.JsonHolidayParser;
+import io.HttpFetcher;
 
 import javax.net.ssl.SSLHandshakeException;
 import java.io.IOException;
-import java.net.URL;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.YearMonth;
+import java.util.BitSet;
 import java.util.Collection;
 
 /**
  * A GermanyHolidayChecker is a holiday checker implementing
  * {@link IHolidayChecker} that is able to check for legal {@link Holiday
- * holidays} of all different {@link GermanState GermanStates}.
+ * holidays} of all different {@link GermanState GermanStates}. The holidays are
+ * fetched from feiertage-api.de through a {@link HolidayCache}.
  */
 public class GermanyHolidayChecker implements IHolidayChecker {
 
 	private final Year year;
 	private final GermanState state;
-	private Collection<Holiday> holidays;
+	private final HolidayCache cache;
+	private HolidayIndex holidays;
 	private static final String HOLIDAY_FETCH_ADDRESS_HTTPS = "https://feiertage-api.de/api/?jahr=$year$&nur_land=$state$";
 	private static final String HOLIDAY_FETCH_ADDRESS_HTTP = "http://feiertage-api.de/api/?jahr=$year$&nur_land=$state$";
+	private static final Duration HOLIDAY_FETCH_TIMEOUT = Duration.ofSeconds(10);
 
 	/**
 	 * Constructs a new {@link GermanyHolidayChecker} instance.
@@ -33,8 +36,20 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 	 * @param state - of Germany to check for possible {@link Holiday holidays}.
 	 */
 	public GermanyHolidayChecker(int year, GermanState state) {
+		this(year, state, HolidayCache.getInstance());
+	}
+
+	/**
+	 * Constructs a new {@link GermanyHolidayChecker} instance.
+	 *
+	 * @param year  - in which the {@link Holiday holidays} take place.
+	 * @param state - of Germany to check for possible {@link Holiday holidays}.
+	 * @param cache - to get the {@link Holiday holidays} from.
+	 */
+	public GermanyHolidayChecker(int year, GermanState state, HolidayCache cache) {
 		this.year = Year.of(year);
 		this.state = state;
+		this.cache = cache;
 	}
 
 	@Override
@@ -42,58 +57,51 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 		if (!hasHolidays()) {
 			fetchHolidays();
 		}
+		return holidays.contains(date);
+	}
 
-		for (Holiday holiday : holidays) {
-			if (holiday.equalsDate(date)) {
-				return true;
-			}
+	@Override
+	public Collection<Holiday> getHolidays() throws HolidayFetchException {
+		if (!hasHolidays()) {
+			fetchHolidays();
 		}
-		return false;
+		return holidays.getHolidays();
 	}
 
 	@Override
-	public Collection<Holiday> getHolidays() throws HolidayFetchException {
+	public BitSet holidaysIn(YearMonth yearMonth) throws HolidayFetchException {
 		if (!hasHolidays()) {
 			fetchHolidays();
 		}
-		return holidays;
+		return holidays.getDaysOfMonth(yearMonth);
 	}
 
 	/**
-	 * Fetches the occurring holidays from a specific source.
+	 * Fetches the occurring holidays from the {@link HolidayCache}.
 	 * 
 	 * @throws HolidayFetchException if an error occurs fetching the holidays.
 	 */
 	private void fetchHolidays() throws HolidayFetchException {
-		String stringHolidays;
-		try {
-			stringHolidays = fetchHolidaysJSONString();
-		} catch (IOException e) {
-			throw new HolidayFetchException(e.getMessage());
-		}
-
-		try {
-			IHolidayParser holidayParser = new JsonHolidayParser(stringHolidays);
-
-			holidays = holidayParser.getHolidays();
-		} catch (ParseException e) {
-			throw new HolidayFetchException(e.getMessage());
-		}
-
+		holidays = cache.getIndex(year.getValue(), state);
 	}
 
 	/**
 	 * Reads holidays formatted as JSON string and retries with fallback http
 	 * address if https is not available.
 	 * 
+	 * @param year  - in which the holidays take place.
+	 * @param state - of Germany to fetch the holidays for.
 	 * @return Holidays formatted as JSON string
 	 * @throws IOException if an I/O error occurs.
 	 */
-	private String fetchHolidaysJSONString() throws IOException {
+	static String fetchHolidaysJSONString(int year, GermanState state) throws IOException {
 		try {
-			return readHolidayJSONStringFromAddress(HOLIDAY_FETCH_ADDRESS_HTTPS);
-		} catch (SSLHandshakeException e) {
-			return readHolidayJSONStringFromAddress(HOLIDAY_FETCH_ADDRESS_HTTP);
+			return readHolidayJSONStringFromAddress(HOLIDAY_FETCH_ADDRESS_HTTPS, year, state);
+		} catch (IOException e) {
+			if (!(e instanceof SSLHandshakeException || e.getCause() instanceof SSLHandshakeException)) {
+				throw e;
+			}
+			return readHolidayJSONStringFromAddress(HOLIDAY_FETCH_ADDRESS_HTTP, year, state);
 		}
 	}
 
@@ -101,14 +109,17 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 	 * Reads holidays formatted as JSON string from address given.
 	 * 
 	 * @param address - to fetch holidays from
+	 * @param year    - in which the holidays take place.
+	 * @param state   - of Germany to fetch the holidays for.
 	 * @return Holidays formatted as JSON string
-	 * @throws SSLHandshakeException if an SSL handshake error occurs.
-	 * @throws IOException           if an I/O error occurs.
+	 * @throws IOException if an I/O error occurs. It is or is caused by an
+	 *                     {@link SSLHandshakeException} if the SSL handshake
+	 *                     fails.
 	 */
-	private String readHolidayJSONStringFromAddress(String address) throws SSLHandshakeException, IOException {
-		String filledAddress = address.replace("$year$", Integer.toString(year.getValue())).replace("$state$", state.name());
+	private static String readHolidayJSONStringFromAddress(String address, int year, GermanState state) throws IOException {
+		String filledAddress = address.replace("$year$", Integer.toString(year)).replace("$state$", state.name());
 
-		return FileController.readURLToString(new URL(filledAddress));
+		return HttpFetcher.fetchString(URI.create(filledAddress), HOLIDAY_FETCH_TIMEOUT);
 	}
 
 	/**
@@ -118,6 +129,6 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 	 *         otherwise.
 	 */
 	private boolean hasHolidays() {
-		return holidays != null && !holidays.isEmpty();
+		return holidays != null && !holidays.getHolidays().isEmpty();
 	}
 }
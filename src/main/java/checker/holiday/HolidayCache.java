@@ -0,0 +1,282 @@
+/* Licensed under MIT 2025. */
+package checker.holiday;
+
+import parser.ParseException;
+import parser.json.JsonHolidayParser;
+import ui.json.JSONHandler;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide cache of the {@link Holiday holidays} of a year in a
+ * {@link GermanState}. Fetched holidays are kept in memory and stored on disk
+ * in the application data folder, so repeated checks of the same year do not
+ * touch the network, not even across restarts.<br/>
+ * <br/>
+ * Cached holidays expire after a time to live. Expired holidays are still
+ * returned immediately while they are fetched again in the background
+ * (stale-while-revalidate). Only if no holidays are cached at all, the caller
+ * has to wait for them to be fetched.
+ */
+public final class HolidayCache {
+
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(30);
+	private static final String CACHE_DIRECTORY_NAME = "holidays";
+	private static final String CACHE_FILE_NAME = "%d-%s.json";
+
+	private static final HolidayCache INSTANCE = new HolidayCache(GermanyHolidayChecker::fetchHolidaysJSONString,
+			() -> Optional.ofNullable(JSONHandler.getApplicationDataPath()).map(path -> Path.of(path, CACHE_DIRECTORY_NAME)), DEFAULT_TIME_TO_LIVE,
+			Clock.systemUTC());
+
+	private final HolidaySource source;
+	private final Supplier<Optional<Path>> directory;
+	private final Duration timeToLive;
+	private final Clock clock;
+
+	private final Map<Key, CachedHolidays> holidays = new ConcurrentHashMap<>();
+	private final Map<Key, ReentrantLock> fetchLocks = new ConcurrentHashMap<>();
+	private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Constructs a new {@link HolidayCache} instance.
+	 *
+	 * @param source     - to fetch the holidays from if they are not cached or
+	 *                   expired.
+	 * @param directory  - supplies the folder to store the holidays in, memory
+	 *                   only if empty. It is queried on every access, because the
+	 *                   application data folder may be initialized later.
+	 * @param timeToLive - after which cached holidays are fetched again.
+	 * @param clock      - to determine the age of cached holidays.
+	 */
+	HolidayCache(HolidaySource source, Supplier<Optional<Path>> directory, Duration timeToLive, Clock clock) {
+		this.source = source;
+		this.directory = directory;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+
+	/**
+	 * Gets the process-wide {@link HolidayCache} instance fetching holidays from
+	 * feiertage-api.de.
+	 *
+	 * @return The shared instance.
+	 */
+	public static HolidayCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the {@link Holiday holidays} of a year in a {@link GermanState}. The
+	 * holidays are only fetched if they are neither cached in memory nor on disk.
+	 *
+	 * @param year  - in which the holidays take place.
+	 * @param state - of Germany to get the holidays for.
+	 * @return An unmodifiable {@link Collection} of the holidays.
+	 * @throws HolidayFetchException if the holidays are not cached and an error
+	 *                               occurs while fetching them.
+	 */
+	public Collection<Holiday> getHolidays(int year, GermanState state) throws HolidayFetchException {
+		return getIndex(year, state).getHolidays();
+	}
+
+	/**
+	 * Gets the {@link HolidayIndex} of the {@link Holiday holidays} of a year in a
+	 * {@link GermanState}. The index is built once when the holidays are loaded
+	 * and shared by all callers.
+	 *
+	 * @param year  - in which the holidays take place.
+	 * @param state - of Germany to get the holidays for.
+	 * @return The index of the holidays.
+	 * @throws HolidayFetchException if the holidays are not cached and an error
+	 *                               occurs while fetching them.
+	 */
+	HolidayIndex getIndex(int year, GermanState state) throws HolidayFetchException {
+		Key key = new Key(year, state);
+		CachedHolidays cached = getCached(key);
+		if (cached == null) {
+			cached = fetchOnce(key);
+		} else if (isExpired(cached)) {
+			refreshInBackground(key);
+		}
+		return cached.index();
+	}
+
+	private CachedHolidays getCached(Key key) {
+		CachedHolidays cached = holidays.get(key);
+		if (cached == null) {
+			cached = readFromDisk(key);
+			if (cached != null) {
+				CachedHolidays existing = holidays.putIfAbsent(key, cached);
+				cached = existing != null ? existing : cached;
+			}
+		}
+		return cached;
+	}
+
+	/**
+	 * Fetches the holidays of a key unless another thread has fetched them in the
+	 * meantime, so concurrent checks of the same year cause only one request.
+	 */
+	private CachedHolidays fetchOnce(Key key) throws HolidayFetchException {
+		ReentrantLock lock = fetchLocks.computeIfAbsent(key, k -> new ReentrantLock());
+		lock.lock();
+		try {
+			CachedHolidays cached = holidays.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			return fetch(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refreshInBackground(Key key) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		Thread.ofVirtual().start(() -> {
+			try {
+				fetch(key);
+			} catch (HolidayFetchException e) {
+				Logger.getGlobal().warning("Failed to refresh holidays of %d in %s: %s".formatted(key.year(), key.state(), e.getMessage()));
+			} finally {
+				refreshing.remove(key);
+			}
+		});
+	}
+
+	private CachedHolidays fetch(Key key) throws HolidayFetchException {
+		String json;
+		try {
+			json = source.fetch(key.year(), key.state());
+		} catch (IOException e) {
+			throw new HolidayFetchException(e.getMessage());
+		}
+
+		Collection<Holiday> fetchedHolidays;
+		try {
+			fetchedHolidays = parse(json);
+		} catch (ParseException e) {
+			throw new HolidayFetchException(e.getMessage());
+		}
+
+		CachedHolidays fetched = new CachedHolidays(new HolidayIndex(fetchedHolidays), clock.instant());
+		// Empty results are not cached, they are most likely an error of the source
+		if (!fetchedHolidays.isEmpty()) {
+			holidays.put(key, fetched);
+			writeToDisk(key, json, fetched.fetchedAt());
+		}
+		return fetched;
+	}
+
+	private CachedHolidays readFromDisk(Key key) {
+		Optional<Path> file = getCacheFile(key);
+		if (file.isEmpty() || !Files.isRegularFile(file.get())) {
+			return null;
+		}
+
+		try {
+			Collection<Holiday> storedHolidays = parse(Files.readString(file.get()));
+			if (storedHolidays.isEmpty()) {
+				return null;
+			}
+			return new CachedHolidays(new HolidayIndex(storedHolidays), Files.getLastModifiedTime(file.get()).toInstant());
+		} catch (IOException | ParseException e) {
+			Logger.getGlobal().warning("Ignoring unreadable holiday cache file %s: %s".formatted(file.get(), e.getMessage()));
+			return null;
+		}
+	}
+
+	private void writeToDisk(Key key, String json, Instant fetchedAt) {
+		Optional<Path> file = getCacheFile(key);
+		if (file.isEmpty()) {
+			return;
+		}
+
+		Path temporaryFile = null;
+		try {
+			Files.createDirectories(file.get().getParent());
+			temporaryFile = Files.createTempFile(file.get().getParent(), file.get().getFileName().toString(), null);
+			Files.writeString(temporaryFile, json);
+			Files.setLastModifiedTime(temporaryFile, FileTime.from(fetchedAt));
+			moveAtomically(temporaryFile, file.get());
+		} catch (IOException e) {
+			Logger.getGlobal().warning("Failed to write holiday cache file %s: %s".formatted(file.get(), e.getMessage()));
+		} finally {
+			deleteTemporaryFile(temporaryFile);
+		}
+	}
+
+	private static void moveAtomically(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void deleteTemporaryFile(Path temporaryFile) {
+		if (temporaryFile == null) {
+			return;
+		}
+		try {
+			// only left over if writing or moving it failed
+			Files.deleteIfExists(temporaryFile);
+		} catch (IOException e) {
+			Logger.getGlobal().warning("Failed to delete temporary holiday cache file %s: %s".formatted(temporaryFile, e.getMessage()));
+		}
+	}
+
+	private Optional<Path> getCacheFile(Key key) {
+		return directory.get().map(path -> path.resolve(CACHE_FILE_NAME.formatted(key.year(), key.state().name())));
+	}
+
+	private boolean isExpired(CachedHolidays cached) {
+		return cached.fetchedAt().plus(timeToLive).isBefore(clock.instant());
+	}
+
+	private static Collection<Holiday> parse(String json) throws ParseException {
+		return new JsonHolidayParser(json).getHolidays();
+	}
+
+	/**
+	 * A source of holidays formatted as JSON string, as returned by
+	 * feiertage-api.de.
+	 */
+	@FunctionalInterface
+	interface HolidaySource {
+
+		/**
+		 * Fetches the holidays of a year in a {@link GermanState}.
+		 *
+		 * @param year  - in which the holidays take place.
+		 * @param state - of Germany to fetch the holidays for.
+		 * @return The holidays formatted as JSON string.
+		 * @throws IOException if an I/O error occurs.
+		 */
+		String fetch(int year, GermanState state) throws IOException;
+	}
+
+	private record Key(int year, GermanState state) {
+	}
+
+	private record CachedHolidays(HolidayIndex index, Instant fetchedAt) {
+	}
+}
@@ -0,0 +1,96 @@
+/* Licensed under MIT 2025. */
+package checker.holiday;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable index of {@link Holiday holidays} by their day of the year. The
+ * index is built once when holidays are loaded, so checking a date is a single
+ * bit test instead of a scan over all holidays.
+ */
+final class HolidayIndex {
+
+	private final Collection<Holiday> holidays;
+	private final int firstYear;
+	/**
+	 * One bitset per year starting with {@link #firstYear}, bit {@code d} is set
+	 * if the {@code d}-th day of the year is a holiday.
+	 */
+	private final BitSet[] daysByYear;
+
+	/**
+	 * Constructs a new {@link HolidayIndex} instance.
+	 *
+	 * @param holidays - to index.
+	 */
+	HolidayIndex(Collection<Holiday> holidays) {
+		this.holidays = List.copyOf(holidays);
+
+		int minYear = holidays.stream().mapToInt(holiday -> holiday.getDate().getYear()).min().orElse(0);
+		int maxYear = holidays.stream().mapToInt(holiday -> holiday.getDate().getYear()).max().orElse(-1);
+		this.firstYear = minYear;
+		this.daysByYear = new BitSet[maxYear - minYear + 1];
+		for (Holiday holiday : holidays) {
+			LocalDate date = holiday.getDate();
+			int yearIndex = date.getYear() - minYear;
+			if (daysByYear[yearIndex] == null) {
+				daysByYear[yearIndex] = new BitSet(date.lengthOfYear() + 1);
+			}
+			daysByYear[yearIndex].set(date.getDayOfYear());
+		}
+	}
+
+	/**
+	 * Gets the indexed {@link Holiday holidays}.
+	 *
+	 * @return An unmodifiable {@link Collection} of the holidays.
+	 */
+	Collection<Holiday> getHolidays() {
+		return holidays;
+	}
+
+	/**
+	 * Checks whether a holiday takes place on a given date.
+	 *
+	 * @param date - to be checked.
+	 * @return True if the date is a holiday, false otherwise.
+	 */
+	boolean contains(LocalDate date) {
+		BitSet days = getDaysOfYear(date.getYear());
+		return days != null && days.get(date.getDayOfYear());
+	}
+
+	/**
+	 * Gets the holidays of a month as a bitset, in which bit {@code d} is set if
+	 * the {@code d}-th day of the month is a holiday.
+	 *
+	 * @param yearMonth - to get the holidays of.
+	 * @return A new bitset of the holidays in the month.
+	 */
+	BitSet getDaysOfMonth(YearMonth yearMonth) {
+		BitSet daysOfMonth = new BitSet(yearMonth.lengthOfMonth() + 1);
+		BitSet days = getDaysOfYear(yearMonth.getYear());
+		if (days == null) {
+			return daysOfMonth;
+		}
+
+		int offset = yearMonth.atDay(1).getDayOfYear() - 1;
+		int lastDay = offset + yearMonth.lengthOfMonth();
+		for (int day = days.nextSetBit(offset + 1); day >= 0 && day <= lastDay; day = days.nextSetBit(day + 1)) {
+			daysOfMonth.set(day - offset);
+		}
+		return daysOfMonth;
+	}
+
+	private BitSet getDaysOfYear(int year) {
+		int yearIndex = year - firstYear;
+		if (yearIndex < 0 || yearIndex >= daysByYear.length) {
+			return null;
+		}
+		return daysByYear[yearIndex];
+	}
+}
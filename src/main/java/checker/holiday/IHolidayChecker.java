@@ -2,6 +2,8 @@
 package checker.holiday;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.BitSet;
 import java.util.Collection;
 
 /**
@@ -29,4 +31,25 @@ public interface IHolidayChecker {
 	 */
 	Collection<Holiday> getHolidays() throws HolidayFetchException;
 
+	/**
+	 * Returns the {@link Holiday holidays} of a month as a bitset, in which bit
+	 * {@code d} is set if the {@code d}-th day of the month is a holiday. This
+	 * allows to look up the holidays of a month once and test many dates of it
+	 * without further calls.
+	 * 
+	 * @param yearMonth - to get the holidays of.
+	 * @return A new bitset of the holidays in the month.
+	 * @throws HolidayFetchException if an error occurs while fetching possible
+	 *                               holidays.
+	 */
+	default BitSet holidaysIn(YearMonth yearMonth) throws HolidayFetchException {
+		BitSet holidays = new BitSet(yearMonth.lengthOfMonth() + 1);
+		for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+			if (isHoliday(yearMonth.atDay(day))) {
+				holidays.set(day);
+			}
+		}
+		return holidays;
+	}
+
 }
@@ -38,7 +38,7 @@ public class Entry implements Comparable<Entry> {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.entry.startGreaterThanEnd"));
 		}
 
-		if (!pause.equals(new TimeSpan(0, 0)) && vacation) {
+		if (TimeSpan.minutesOf(pause) != 0 && vacation) {
 			throw new IllegalArgumentException("Vacation entries may not contain a pause.");
 		}
 
@@ -111,12 +111,20 @@ public class Entry implements Comparable<Entry> {
 	 * @return The working time
 	 */
 	public TimeSpan getWorkingTime() {
-		TimeSpan workingTime = this.getEnd();
-
-		workingTime = workingTime.subtract(this.getStart());
-		workingTime = workingTime.subtract(this.getPause());
+		return TimeSpan.ofMinutes(getWorkingMinutes());
+	}
 
-		return workingTime;
+	/**
+	 * Calculates the working time in minutes, like {@link #getWorkingTime()} but
+	 * without creating a {@link TimeSpan}.
+	 * 
+	 * @return The working time in minutes
+	 * @throws IllegalArgumentException if the break time is longer than the work
+	 *                                  interval.
+	 */
+	public int getWorkingMinutes() {
+		int endToStart = TimeSpan.minutesOf(end) - TimeSpan.minutesOf(start);
+		return TimeSpan.subtractMinutes(endToStart, TimeSpan.minutesOf(pause));
 	}
 
 	/**
@@ -18,6 +18,7 @@ public class TimeSheet {
 	private final YearMonth yearMonth;
 	private final TimeSpan succTransfer, predTransfer;
 	private final List<Entry> entries;
+	private TimeSheetStatistics statistics; // caching
 
 	/**
 	 * Constructs a new instance of {@code TimeSheet}.
@@ -53,7 +54,7 @@ public class TimeSheet {
 		 * 
 		 * TODO: I don't think this belongs here, should probably be in some checker.
 		 */
-		if (profession.getMaxWorkingTime().add(succTransfer).compareTo(predTransfer.add(getTotalVacationTime())) < 0) {
+		if (TimeSpan.sumMinutes(profession.getMaxWorkingTime(), succTransfer) < TimeSpan.minutesOf(predTransfer) + sumVacationMinutes(this.entries)) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timesheet.sumOfTimeNegative"));
 		}
 	}
@@ -122,21 +123,40 @@ public class TimeSheet {
 		return this.profession;
 	}
 
+	/**
+	 * Gets the {@link TimeSheetStatistics statistics} of all entries. They are
+	 * computed on first access and shared afterwards.
+	 * 
+	 * @return The statistics.
+	 * @throws IllegalArgumentException if the break time of an entry is longer
+	 *                                  than its work interval.
+	 */
+	public TimeSheetStatistics getStatistics() {
+		TimeSheetStatistics result = statistics;
+		if (result == null) {
+			// Computing the statistics twice in a race is harmless, they are immutable
+			result = new TimeSheetStatistics(entries);
+			statistics = result;
+		}
+		return result;
+	}
+
 	/**
 	 * Calculates the overall working time of all entries.
 	 * 
 	 * @return The overall, summed up working time.
 	 */
 	public TimeSpan getTotalWorkTime() {
-		TimeSpan totalWorkTime = new TimeSpan(0, 0);
-
-		for (Entry entry : this.getEntries()) {
-			if (!entry.isVacation()) {
-				totalWorkTime = totalWorkTime.add(entry.getWorkingTime());
-			}
-		}
+		return getStatistics().getTotalWorkTime();
+	}
 
-		return totalWorkTime;
+	/**
+	 * Calculates the overall working time of all entries in minutes.
+	 * 
+	 * @return The overall, summed up working time in minutes.
+	 */
+	public int getTotalWorkMinutes() {
+		return getStatistics().getTotalWorkMinutes();
 	}
 
 	/**
@@ -145,15 +165,32 @@ public class TimeSheet {
 	 * @return The overall, summed up vacation time.
 	 */
 	public TimeSpan getTotalVacationTime() {
-		TimeSpan totalVacationTime = new TimeSpan(0, 0);
+		return getStatistics().getTotalVacationTime();
+	}
+
+	/**
+	 * Calculates the overall vacation time of all entries in minutes.
+	 * 
+	 * @return The overall, summed up vacation time in minutes.
+	 */
+	public int getTotalVacationMinutes() {
+		return getStatistics().getTotalVacationMinutes();
+	}
+
+	/**
+	 * Sums up the vacation time of entries without computing the
+	 * {@link TimeSheetStatistics}, whose working times may not be valid yet.
+	 */
+	private static int sumVacationMinutes(List<Entry> entries) {
+		int totalVacationMinutes = 0;
 
-		for (Entry entry : this.getEntries()) {
+		for (Entry entry : entries) {
 			if (entry.isVacation()) {
-				totalVacationTime = totalVacationTime.add(entry.getWorkingTime());
+				totalVacationMinutes += entry.getWorkingMinutes();
 			}
 		}
 
-		return totalVacationTime;
+		return totalVacationMinutes;
 	}
 
 	@Override
@@ -0,0 +1,224 @@
+/* Licensed under MIT 2025. */
+package data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Aggregated times of the {@link Entry entries} of a {@link TimeSheet}. Since a
+ * time sheet is immutable, its statistics are computed once in a single pass
+ * over the sorted entries and shared by everyone reading the totals, like
+ * checkers and generators.
+ */
+public final class TimeSheetStatistics {
+
+	private final int totalWorkMinutes;
+	private final int totalVacationMinutes;
+	private final List<DayStatistics> days;
+	private final TimeSpan earliestStart;
+	private final TimeSpan latestEnd;
+
+	/**
+	 * Constructs a new {@link TimeSheetStatistics} instance.
+	 *
+	 * @param entries - The {@link Entry entries} to aggregate, sorted as specified
+	 *                in {@link Entry}.
+	 * @throws IllegalArgumentException if the break time of an entry is longer
+	 *                                  than its work interval.
+	 */
+	TimeSheetStatistics(List<Entry> entries) {
+		List<DayStatistics> dayList = new ArrayList<>();
+		int workMinutes = 0;
+		int vacationMinutes = 0;
+		TimeSpan earliest = null;
+		TimeSpan latest = null;
+
+		int dayStart = 0;
+		for (int i = 0; i < entries.size(); i++) {
+			boolean lastOfDay = i + 1 == entries.size() || !entries.get(i + 1).getDate().equals(entries.get(i).getDate());
+			if (!lastOfDay) {
+				continue;
+			}
+
+			DayStatistics day = DayStatistics.of(entries.subList(dayStart, i + 1));
+			dayList.add(day);
+			dayStart = i + 1;
+
+			workMinutes += day.workingMinutes();
+			vacationMinutes += day.vacationMinutes();
+			if (earliest == null || day.earliestStart().compareTo(earliest) < 0) {
+				earliest = day.earliestStart();
+			}
+			if (latest == null || day.latestEnd().compareTo(latest) > 0) {
+				latest = day.latestEnd();
+			}
+		}
+
+		this.totalWorkMinutes = workMinutes;
+		this.totalVacationMinutes = vacationMinutes;
+		this.days = Collections.unmodifiableList(dayList);
+		this.earliestStart = earliest;
+		this.latestEnd = latest;
+	}
+
+	/**
+	 * Gets the overall working time of all entries in minutes.
+	 *
+	 * @return The overall, summed up working time in minutes.
+	 */
+	public int getTotalWorkMinutes() {
+		return totalWorkMinutes;
+	}
+
+	/**
+	 * Gets the overall vacation time of all entries in minutes.
+	 *
+	 * @return The overall, summed up vacation time in minutes.
+	 */
+	public int getTotalVacationMinutes() {
+		return totalVacationMinutes;
+	}
+
+	/**
+	 * Gets the overall working time of all entries.
+	 *
+	 * @return The overall, summed up working time.
+	 */
+	public TimeSpan getTotalWorkTime() {
+		return TimeSpan.ofMinutes(totalWorkMinutes);
+	}
+
+	/**
+	 * Gets the overall vacation time of all entries.
+	 *
+	 * @return The overall, summed up vacation time.
+	 */
+	public TimeSpan getTotalVacationTime() {
+		return TimeSpan.ofMinutes(totalVacationMinutes);
+	}
+
+	/**
+	 * Gets the overall working and vacation time of all entries.
+	 *
+	 * @return The summed up working and vacation time.
+	 */
+	public TimeSpan getTotalTime() {
+		return TimeSpan.ofMinutes(totalWorkMinutes + totalVacationMinutes);
+	}
+
+	/**
+	 * Gets the statistics of all days with at least one entry, sorted by date.
+	 *
+	 * @return The statistics of the days.
+	 */
+	public List<DayStatistics> getDays() {
+		return days;
+	}
+
+	/**
+	 * Gets the statistics of a single day.
+	 *
+	 * @param date - The day to get the statistics of.
+	 * @return The statistics of the day, empty if there is no entry on this day.
+	 */
+	public Optional<DayStatistics> getDay(LocalDate date) {
+		int low = 0;
+		int high = days.size() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = days.get(middle).date().compareTo(date);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return Optional.of(days.get(middle));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the earliest start time of all entries.
+	 *
+	 * @return The earliest start time, empty if there are no entries.
+	 */
+	public Optional<TimeSpan> getEarliestStart() {
+		return Optional.ofNullable(earliestStart);
+	}
+
+	/**
+	 * Gets the latest end time of all entries.
+	 *
+	 * @return The latest end time, empty if there are no entries.
+	 */
+	public Optional<TimeSpan> getLatestEnd() {
+		return Optional.ofNullable(latestEnd);
+	}
+
+	/**
+	 * The aggregated times of all entries of a single day. Working, shift and
+	 * pause times only include entries that are not vacation.
+	 *
+	 * @param date            The day.
+	 * @param entryCount      The number of entries on this day.
+	 * @param workEntryCount  The number of entries on this day that are not
+	 *                        vacation.
+	 * @param workingMinutes  The summed up working time in minutes, without
+	 *                        pauses.
+	 * @param vacationMinutes The summed up vacation time in minutes.
+	 * @param shiftMinutes    The summed up time between start and end in minutes,
+	 *                        including pauses.
+	 * @param pauseMinutes    The summed up pauses in minutes.
+	 * @param earliestStart   The earliest start time of all entries of the day.
+	 * @param latestEnd       The latest end time of all entries of the day.
+	 */
+	public record DayStatistics(LocalDate date, int entryCount, int workEntryCount, int workingMinutes, int vacationMinutes, int shiftMinutes,
+			int pauseMinutes, TimeSpan earliestStart, TimeSpan latestEnd) {
+
+		/**
+		 * Aggregates the entries of a single day.
+		 *
+		 * @param entriesOfDay - The {@link Entry entries} of one day, at least one,
+		 *                     sorted as specified in {@link Entry}.
+		 * @return The statistics of the day.
+		 */
+		public static DayStatistics of(List<Entry> entriesOfDay) {
+			int workEntryCount = 0;
+			int workingMinutes = 0;
+			int vacationMinutes = 0;
+			int shiftMinutes = 0;
+			int pauseMinutes = 0;
+			TimeSpan earliest = entriesOfDay.getFirst().getStart();
+			TimeSpan latest = entriesOfDay.getFirst().getEnd();
+
+			for (Entry entry : entriesOfDay) {
+				if (entry.isVacation()) {
+					vacationMinutes += entry.getWorkingMinutes();
+				} else {
+					workEntryCount++;
+					workingMinutes += entry.getWorkingMinutes();
+					shiftMinutes += TimeSpan.minutesOf(entry.getEnd()) - TimeSpan.minutesOf(entry.getStart());
+					pauseMinutes += TimeSpan.minutesOf(entry.getPause());
+				}
+				if (entry.getEnd().compareTo(latest) > 0) {
+					latest = entry.getEnd();
+				}
+			}
+			return new DayStatistics(entriesOfDay.getFirst().getDate(), entriesOfDay.size(), workEntryCount, workingMinutes, vacationMinutes, shiftMinutes,
+					pauseMinutes, earliest, latest);
+		}
+
+		/**
+		 * Checks whether the day contains at least one entry that is not a vacation.
+		 *
+		 * @return True if the day contains work, false otherwise.
+		 */
+		public boolean hasWork() {
+			return workEntryCount > 0;
+		}
+	}
+}
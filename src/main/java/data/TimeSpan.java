@@ -1,11 +1,17 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package data;
 
 import i18n.ResourceHandler;
 
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
 /**
  * An immutable time span consisting of hours and minutes as well as basic
- * arithmetic for it.
+ * arithmetic for it. Internally, a time span is stored as its total number of
+ * minutes. Code that aggregates many time spans should use the {@code int}
+ * based helpers like {@link #minutesOf(TimeSpan)} and only create a
+ * {@link TimeSpan} for the result.
  */
 public class TimeSpan implements Comparable<TimeSpan> {
 
@@ -13,8 +19,22 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	public static final int MIN_MINUTE = 0;
 	public static final int MAX_MINUTE = 59;
 
-	private final int minute;
-	private final int hour;
+	private static final int MINUTES_PER_HOUR = MAX_MINUTE + 1;
+	/**
+	 * Time spans up to this number of minutes (two days) are cached, which covers
+	 * all times of a day as well as daily and most monthly sums.
+	 */
+	private static final int CACHED_MINUTES = 48 * MINUTES_PER_HOUR;
+	private static final TimeSpan[] CACHE = new TimeSpan[CACHED_MINUTES + 1];
+	static {
+		for (int minutes = 0; minutes <= CACHED_MINUTES; minutes++) {
+			CACHE[minutes] = new TimeSpan(minutes);
+		}
+	}
+
+	private static final Function<UnaryOperator<String>, TimeSpanParser> PARSER_FACTORY = TimeSpanParser::of;
+
+	private final int totalMinutes;
 
 	/**
 	 * Constructs a new TimeSpan instance.
@@ -28,8 +48,63 @@ public class TimeSpan implements Comparable<TimeSpan> {
 		} else if (minute > MAX_MINUTE) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.minuteOverUpperBound", MAX_MINUTE));
 		}
-		this.minute = minute;
-		this.hour = hour;
+		this.totalMinutes = hour * MINUTES_PER_HOUR + minute;
+	}
+
+	private TimeSpan(int totalMinutes) {
+		this.totalMinutes = totalMinutes;
+	}
+
+	/**
+	 * Gets a TimeSpan representing a number of minutes. Common values are cached,
+	 * so no new instance is created for them.
+	 * 
+	 * @param minutes - Non-negative amount of minutes
+	 * @return The {@link TimeSpan} representing the minutes
+	 */
+	public static TimeSpan ofMinutes(int minutes) {
+		if (minutes < 0) {
+			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.timeNegative"));
+		}
+		return minutes <= CACHED_MINUTES ? CACHE[minutes] : new TimeSpan(minutes);
+	}
+
+	/**
+	 * Gets a TimeSpan of hours and minutes, using the cached instances if possible.
+	 * 
+	 * @param hour   - Non-negative amount of hours
+	 * @param minute - Number of minutes between 0 and 59
+	 * @return A TimeSpan of the hours and minutes
+	 */
+	static TimeSpan of(int hour, int minute) {
+		if (hour >= MIN_HOUR && hour < CACHED_MINUTES / MINUTES_PER_HOUR && minute >= MIN_MINUTE && minute <= MAX_MINUTE) {
+			return CACHE[hour * MINUTES_PER_HOUR + minute];
+		}
+		return new TimeSpan(hour, minute);
+	}
+
+	/**
+	 * Gets the total number of minutes of a TimeSpan.
+	 * 
+	 * @param timeSpan - TimeSpan to get the minutes of
+	 * @return The total number of minutes
+	 */
+	public static int minutesOf(TimeSpan timeSpan) {
+		return timeSpan.totalMinutes;
+	}
+
+	/**
+	 * Sums up the total number of minutes of TimeSpans.
+	 * 
+	 * @param timeSpans - TimeSpans that should be added
+	 * @return The summed up number of minutes
+	 */
+	public static int sumMinutes(TimeSpan... timeSpans) {
+		int sum = 0;
+		for (TimeSpan timeSpan : timeSpans) {
+			sum += timeSpan.totalMinutes;
+		}
+		return sum;
 	}
 
 	/**
@@ -38,7 +113,7 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return - The minutes.
 	 */
 	public int getMinute() {
-		return minute;
+		return totalMinutes % MINUTES_PER_HOUR;
 	}
 
 	/**
@@ -47,7 +122,7 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return - The hours.
 	 */
 	public int getHour() {
-		return hour;
+		return totalMinutes / MINUTES_PER_HOUR;
 	}
 
 	/**
@@ -57,11 +132,7 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return The {@link TimeSpan} representing the sum
 	 */
 	public TimeSpan add(TimeSpan addend) {
-		int hourSum = this.hour + addend.getHour();
-		int minuteSum = this.minute + addend.getMinute();
-		int carry = minuteSum / (MAX_MINUTE + 1);
-
-		return new TimeSpan(hourSum + carry, minuteSum % (MAX_MINUTE + 1));
+		return ofMinutes(this.totalMinutes + addend.totalMinutes);
 	}
 
 	/**
@@ -73,14 +144,24 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 *                                  minuend
 	 */
 	public TimeSpan subtract(TimeSpan subtrahend) throws IllegalArgumentException {
-		if (this.compareTo(subtrahend) < 0) {
+		return ofMinutes(subtractMinutes(this.totalMinutes, subtrahend.totalMinutes));
+	}
+
+	/**
+	 * Subtracts two numbers of minutes with the same validation as
+	 * {@link #subtract(TimeSpan)}.
+	 * 
+	 * @param minuend    - Number of minutes to subtract from
+	 * @param subtrahend - Number of minutes that should be subtracted
+	 * @return The difference in minutes
+	 * @throws IllegalArgumentException thrown if the subtrahend is greater than the
+	 *                                  minuend
+	 */
+	public static int subtractMinutes(int minuend, int subtrahend) throws IllegalArgumentException {
+		if (minuend < subtrahend) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.subtrahendGreaterThanMinuend"));
 		}
-
-		int hourDiff = this.hour - subtrahend.getHour();
-		int minuteDiff = this.minute - subtrahend.getMinute();
-
-		return new TimeSpan(hourDiff - ((MAX_MINUTE - minuteDiff) / (MAX_MINUTE + 1)), ((MAX_MINUTE + 1) + minuteDiff) % (MAX_MINUTE + 1));
+		return minuend - subtrahend;
 	}
 
 	/**
@@ -90,37 +171,30 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return A {@link TimeSpan} representing the input string
 	 */
 	public static TimeSpan parse(String s) {
-		if (!s.matches(ResourceHandler.getMessage("locale.timespan.parseRegex"))) {
-			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.invalidParseInput"));
-		}
-		String[] splittedString = s.split(ResourceHandler.getMessage("locale.timespan.separatorHourMinute"));
-
-		int hours;
-		int minutes;
-		try {
-			hours = Integer.parseInt(splittedString[0]);
-			minutes = Integer.parseInt(splittedString[1]);
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException(e.getMessage());
-		}
+		return parse(s, 0, s.length());
+	}
 
-		return new TimeSpan(hours, minutes);
+	/**
+	 * Attempts to interpret a part of a text as a representation of a
+	 * {@link TimeSpan}, without copying the part, e.g. from the buffer of a parser.
+	 * 
+	 * @param text  - the text containing the time span.
+	 * @param start - the index of the first character of the time span.
+	 * @param end   - the index after the last character of the time span.
+	 * @return A {@link TimeSpan} representing the part of the text
+	 */
+	public static TimeSpan parse(CharSequence text, int start, int end) {
+		return ResourceHandler.getLocalized(PARSER_FACTORY).parse(text, start, end);
 	}
 
 	@Override
 	public String toString() {
-		return ResourceHandler.getMessage("locale.timespan.stringFormat", hour, minute);
+		return ResourceHandler.getMessage("locale.timespan.stringFormat", getHour(), getMinute());
 	}
 
 	@Override
 	public int compareTo(TimeSpan other) {
-		if (this.hour > other.getHour()) {
-			return 1;
-		} else if (this.hour == other.getHour()) {
-			return Integer.compare(this.minute, other.getMinute());
-		} else {
-			return -1;
-		}
+		return Integer.compare(this.totalMinutes, other.totalMinutes);
 	}
 
 	@Override
@@ -129,7 +203,12 @@ public class TimeSpan implements Comparable<TimeSpan> {
 			return false;
 		}
 
-		return this.hour == otherTimeSpan.hour && this.minute == otherTimeSpan.minute;
+		return this.totalMinutes == otherTimeSpan.totalMinutes;
+	}
+
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(totalMinutes);
 	}
 
 }
@@ -0,0 +1,144 @@
+/* Licensed under MIT 2025. */
+package data;
+
+import i18n.ResourceHandler;
+
+import java.nio.CharBuffer;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Parses time spans in the localized format of the message bundle, which is
+ * described by the keys {@code locale.timespan.parseRegex} and
+ * {@code locale.timespan.separatorHourMinute}. A parser is created once per
+ * locale by {@link ResourceHandler#getLocalized}.<br/>
+ * <br/>
+ * If the format is hours and minutes around a literal separator, which is the
+ * case for all bundled locales, the text is scanned by hand without regular
+ * expressions or intermediate strings. Otherwise, the precompiled expressions of
+ * the bundle are used.
+ */
+final class TimeSpanParser {
+
+	private static final String PARSE_REGEX_KEY = "locale.timespan.parseRegex";
+	private static final String SEPARATOR_KEY = "locale.timespan.separatorHourMinute";
+	private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+	/**
+	 * Hours with up to this number of digits cannot overflow an {@code int}.
+	 */
+	private static final int SAFE_HOUR_DIGITS = 9;
+
+	private final String separator;
+	private final Pattern parsePattern;
+	private final Pattern separatorPattern;
+
+	private TimeSpanParser(String separator, Pattern parsePattern, Pattern separatorPattern) {
+		this.separator = separator;
+		this.parsePattern = parsePattern;
+		this.separatorPattern = separatorPattern;
+	}
+
+	/**
+	 * Creates the parser of a locale.
+	 *
+	 * @param messages - returns the message string of a key in the locale.
+	 * @return The parser.
+	 */
+	static TimeSpanParser of(UnaryOperator<String> messages) {
+		String parseRegex = messages.apply(PARSE_REGEX_KEY);
+		String separator = messages.apply(SEPARATOR_KEY);
+		if (isLiteral(separator) && parseRegex.equals("^[0-9]+" + separator + "[0-5]?[0-9]$")) {
+			return new TimeSpanParser(separator, null, null);
+		}
+		return new TimeSpanParser(null, Pattern.compile(parseRegex), Pattern.compile(separator));
+	}
+
+	/**
+	 * Parses a part of a text.
+	 *
+	 * @param text  - containing the time span.
+	 * @param start - the index of the first character of the time span.
+	 * @param end   - the index after the last character of the time span.
+	 * @return The parsed time span.
+	 * @throws IllegalArgumentException if the part of the text is no valid time
+	 *                                  span.
+	 */
+	TimeSpan parse(CharSequence text, int start, int end) {
+		if (separator == null) {
+			return parseWithRegex(CharBuffer.wrap(text, start, end).toString());
+		}
+
+		int index = start;
+		while (index < end && isDigit(text.charAt(index))) {
+			index++;
+		}
+		int hourEnd = index;
+		if (hourEnd == start || !regionMatches(text, hourEnd, end, separator)) {
+			throw invalidInput();
+		}
+
+		int minuteStart = hourEnd + separator.length();
+		int minuteDigits = end - minuteStart;
+		if (minuteDigits < 1 || minuteDigits > 2 || !isDigit(text.charAt(end - 1)) || minuteDigits == 2 && !isTenMinuteDigit(text.charAt(minuteStart))) {
+			throw invalidInput();
+		}
+		int minute = minuteDigits == 2 ? (text.charAt(minuteStart) - '0') * 10 + text.charAt(end - 1) - '0' : text.charAt(end - 1) - '0';
+
+		int hour;
+		if (hourEnd - start <= SAFE_HOUR_DIGITS) {
+			hour = 0;
+			for (int i = start; i < hourEnd; i++) {
+				hour = hour * 10 + text.charAt(i) - '0';
+			}
+		} else {
+			hour = parseInt(text.subSequence(start, hourEnd).toString());
+		}
+
+		return TimeSpan.of(hour, minute);
+	}
+
+	private TimeSpan parseWithRegex(String s) {
+		if (!parsePattern.matcher(s).matches()) {
+			throw invalidInput();
+		}
+		String[] splittedString = separatorPattern.split(s);
+
+		return new TimeSpan(parseInt(splittedString[0]), parseInt(splittedString[1]));
+	}
+
+	private static int parseInt(String s) {
+		try {
+			return Integer.parseInt(s);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(e.getMessage());
+		}
+	}
+
+	private static IllegalArgumentException invalidInput() {
+		return new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.invalidParseInput"));
+	}
+
+	private static boolean regionMatches(CharSequence text, int index, int end, String expected) {
+		if (end - index < expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			if (text.charAt(index + i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isLiteral(String separator) {
+		return !separator.isEmpty() && separator.chars().noneMatch(c -> isDigit((char) c) || REGEX_METACHARACTERS.indexOf(c) >= 0);
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isTenMinuteDigit(char c) {
+		return c >= '0' && c <= '5';
+	}
+}
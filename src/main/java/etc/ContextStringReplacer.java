@@ -1,10 +1,15 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package etc;
 
 import i18n.ResourceHandler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 
@@ -68,6 +73,11 @@ import java.util.function.Consumer;
  * assert (s.equals("Hellooo W0rld"));
  * </pre>
  * 
+ * The substrings that may match at an index are looked up by the character at
+ * that index, and replacements are appended to a buffer instead of rebuilding
+ * the string. Finding and replacing all substrings therefore takes time linear
+ * in the length of the string and the number of matches. <br>
+ * <br>
  * Warning: <code>ContextStringReplacerIterator</code> and
  * <code>ContextStringReplacement</code> objects are single-use only and should
  * not be stored. <br>
@@ -91,19 +101,50 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		}
 
 		this.string = string;
-		this.replace = replace;
+		this.edited = new StringBuilder();
+		this.copiedIndex = 0;
+
+		Map<Character, List<String>> substringsByFirstChar = new LinkedHashMap<>();
+		for (String substring : replace) {
+			substringsByFirstChar.computeIfAbsent(substring.charAt(0), c -> new ArrayList<>()).add(substring);
+		}
+		for (Map.Entry<Character, List<String>> entry : substringsByFirstChar.entrySet()) {
+			String[] substrings = entry.getValue().toArray(String[]::new);
+			if (entry.getKey() < asciiSubstrings.length) {
+				asciiSubstrings[entry.getKey()] = substrings;
+			} else {
+				otherSubstrings.put(entry.getKey(), substrings);
+			}
+		}
 
 		currentIterator = null;
 	}
 
 	/**
-	 * Edited string; this variable is changed when replacing substrings
+	 * String that is edited. The characters from <code>copiedIndex</code> on are
+	 * not edited yet, the characters before are replaced by <code>edited</code>.
 	 */
 	private String string;
 	/**
-	 * Collection of substrings to replace
+	 * Edited part of the string; replacements are only appended while iterating
+	 */
+	private final StringBuilder edited;
+	/**
+	 * Index in <code>string</code> up to which the characters are contained in
+	 * <code>edited</code>
+	 */
+	private int copiedIndex;
+
+	/**
+	 * Substrings to replace by their first character if it is an ASCII character,
+	 * in the order of the collection
 	 */
-	private final Collection<String> replace;
+	private final String[][] asciiSubstrings = new String[128][];
+	/**
+	 * Substrings to replace by their first character if it is no ASCII character,
+	 * in the order of the collection
+	 */
+	private final Map<Character, String[]> otherSubstrings = new HashMap<>();
 
 	/**
 	 * Iterator issued to the caller last
@@ -116,11 +157,15 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 	 * @return Edited string
 	 */
 	public String getString() {
+		applyEdits();
+
 		return string;
 	}
 
 	@Override
 	public ContextStringReplacerIterator iterator() {
+		applyEdits();
+
 		if (currentIterator != null)
 			currentIterator.invalidate();
 
@@ -128,6 +173,50 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		return currentIterator;
 	}
 
+	/**
+	 * Apply the edited part to <code>string</code>. Indices in the edited string
+	 * stay valid.
+	 */
+	private void applyEdits() {
+		if (copiedIndex == 0 && edited.isEmpty())
+			return;
+
+		edited.append(string, copiedIndex, string.length());
+		string = edited.toString();
+		edited.setLength(0);
+		copiedIndex = 0;
+	}
+
+	/**
+	 * Get the difference between an index in the edited string and the same index
+	 * in <code>string</code>, for indices from <code>copiedIndex</code> on
+	 * 
+	 * @return Offset of the edited string
+	 */
+	private int offset() {
+		return edited.length() - copiedIndex;
+	}
+
+	/**
+	 * Find the first substring of the collection that matches at an index of
+	 * <code>string</code>
+	 * 
+	 * @param index Index in <code>string</code>
+	 * @return Matching substring or <code>null</code> if no substring matches
+	 */
+	private String matchAt(int index) {
+		char c = string.charAt(index);
+		String[] substrings = c < asciiSubstrings.length ? asciiSubstrings[c] : otherSubstrings.get(c);
+		if (substrings == null)
+			return null;
+
+		for (String substring : substrings) {
+			if (string.startsWith(substring, index))
+				return substring;
+		}
+		return null;
+	}
+
 	/**
 	 * Call <code>action</code> for every occurence of every substring in
 	 * <code>replace</code> and return the result after all replacements
@@ -169,8 +258,8 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		}
 
 		/**
-		 * Current index during the replacement. Everything before this index is already
-		 * edited.
+		 * Current index in the edited string during the replacement. Everything before
+		 * this index is already edited.
 		 */
 		private int currentIndex;
 
@@ -221,30 +310,25 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 			String nextSubstring;
 
 			search: {
-				// search for the next index going from currentIndex
-				for (int i = currentIndex; i < string.length(); i++) {
+				// search for the next index going from currentIndex, which is not edited yet
+				int offset = offset();
+				for (int i = currentIndex - offset; i < string.length(); i++) {
 					// for each index, check if any replace substring matches
-					for (String substring : replace) {
-						// but only if we have enough characters left to match
-						if (string.length() - i >= substring.length()) {
-							// check if the substring matches with substring
-							String subString = string.substring(i, i + substring.length());
-							if (subString.equals(substring)) {
-								// found next match
-								nextIndex = i;
-								nextSubstring = substring;
-
-								// continue after the replacement next time
-								currentIndex = nextIndex + 1;
-
-								break search;
-							}
-						}
+					String substring = matchAt(i);
+					if (substring != null) {
+						// found next match
+						nextIndex = i + offset;
+						nextSubstring = substring;
+
+						// continue after the replacement next time
+						currentIndex = nextIndex + 1;
+
+						break search;
 					}
 				}
 
 				// unnecessary to search the string again
-				currentIndex = string.length();
+				currentIndex = string.length() + offset;
 
 				return null;
 			}
@@ -311,7 +395,7 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 			}
 
 			/**
-			 * Index of the found substring
+			 * Index of the found substring in the edited string
 			 */
 			private final int index;
 			/**
@@ -368,7 +452,8 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				int start = index + substring.length();
+				// the part after the found substring is not edited yet
+				int start = index - offset() + substring.length();
 				int end = Math.min(start + size, string.length());
 
 				return string.substring(start, end);
@@ -383,10 +468,12 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				int end = index;
-				int start = Math.max(end - size, 0);
+				// the lookbehind may reach into the edited part
+				int end = index - offset();
+				int start = Math.max(end - size, copiedIndex);
+				int editedStart = Math.max(edited.length() - (size - (end - start)), 0);
 
-				return string.substring(start, end);
+				return edited.substring(editedStart) + string.substring(start, end);
 			}
 
 			/**
@@ -414,10 +501,9 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				String before = string.substring(0, index);
-				String after = string.substring(index + substring.length());
-
-				string = before + replacement + after;
+				int start = index - offset();
+				edited.append(string, copiedIndex, start).append(replacement);
+				copiedIndex = start + substring.length();
 				currentIndex = index + replacement.length();
 
 				invalidate();
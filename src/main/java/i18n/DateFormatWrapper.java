@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package i18n;
 
 import java.io.Serial;
@@ -62,4 +62,15 @@ class DateFormatWrapper extends Format {
 		return innerFormat.parseObject(source, pos);
 	}
 
+	/**
+	 * Create a copy that wraps a copy of the wrapped date format, because
+	 * <code>DateFormat</code> objects must not be shared between threads.
+	 * 
+	 * @return Copy of this <code>DateFormatWrapper</code>
+	 */
+	@Override
+	public Object clone() {
+		return new DateFormatWrapper((DateFormat) innerFormat.clone());
+	}
+
 }
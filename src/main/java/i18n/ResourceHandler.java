@@ -1,11 +1,19 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package i18n;
 
 import java.text.DateFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.Format;
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Static class providing localized messages from the i18n message bundles.
@@ -19,39 +27,76 @@ public class ResourceHandler {
 		protected ResourceHandlerInstance(String messageBundlePath) {
 			this.messageBundlePath = messageBundlePath;
 
-			locale = Locale.getDefault();
-
-			loadResourceBundle();
+			setLocale(Locale.getDefault());
 		}
 
 		private final String messageBundlePath;
 
-		private Locale locale;
-		private ResourceBundle resourceBundle;
+		/**
+		 * Messages of the current locale; replaced as a whole when the locale changes
+		 */
+		private volatile LocalizedMessages messages;
 
 		protected Locale getLocale() {
-			return locale;
+			return messages.locale;
 		}
 
 		protected void setLocale(final Locale locale) {
+			messages = new LocalizedMessages(locale, ResourceBundle.getBundle(messageBundlePath, locale));
+		}
+
+		protected String getMessage(final String key, final Object... args) {
+			return messages.getMessage(key, args);
+		}
+
+		protected <T> T getLocalized(final Function<UnaryOperator<String>, T> factory) {
+			return messages.getLocalized(factory);
+		}
+
+	}
+
+	/**
+	 * The message bundle of one locale and the compiled formats of its messages.
+	 * Each message is compiled once, on first use, and the compiled message can be
+	 * used by any number of threads.
+	 */
+	private static class LocalizedMessages {
+
+		private final Locale locale;
+		private final ResourceBundle resourceBundle;
+		private final Map<String, CompiledMessage> compiledMessages = new ConcurrentHashMap<>();
+		private final Map<Function<UnaryOperator<String>, ?>, Object> localizedValues = new ConcurrentHashMap<>();
+
+		private LocalizedMessages(Locale locale, ResourceBundle resourceBundle) {
 			this.locale = locale;
+			this.resourceBundle = resourceBundle;
+		}
 
-			loadResourceBundle();
+		private String getMessage(final String key, final Object... args) {
+			return compiledMessages.computeIfAbsent(key, this::compile).format(args);
 		}
 
-		protected String getMessage(final String key, final Object... args) {
+		@SuppressWarnings("unchecked")
+		private <T> T getLocalized(final Function<UnaryOperator<String>, T> factory) {
+			return (T) localizedValues.computeIfAbsent(factory, f -> factory.apply(key -> getMessage(key)));
+		}
+
+		private CompiledMessage compile(String key) {
 			String message = resourceBundle.getString(key);
 
+			// without format elements and quotes, MessageFormat returns the message as is
+			if (message.indexOf('{') < 0 && message.indexOf('\'') < 0) {
+				return args -> message;
+			}
+
 			MessageFormat format = new MessageFormat("");
 			format.setLocale(locale);
 			format.applyPattern(message);
 			replaceUnsupportedFormats(format);
 
-			return format.format(args);
-		}
-
-		private void loadResourceBundle() {
-			resourceBundle = ResourceBundle.getBundle(messageBundlePath, locale);
+			// MessageFormat is not thread safe, so each call formats with its own copy
+			CompiledMessage messageFormat = args -> ((MessageFormat) format.clone()).format(args);
+			return PaddedNumbersMessage.of(message, locale, messageFormat).orElse(messageFormat);
 		}
 
 		private static void replaceUnsupportedFormats(MessageFormat format) {
@@ -66,6 +111,65 @@ public class ResourceHandler {
 
 	}
 
+	/**
+	 * A message that is compiled for fast formatting
+	 */
+	@FunctionalInterface
+	private interface CompiledMessage {
+		String format(Object[] args);
+	}
+
+	/**
+	 * Formats messages consisting of two zero-padded integers and a separator,
+	 * like the time span format <code>{0,number,00}:{1,number,00}</code>, without
+	 * <code>MessageFormat</code>. The result is the same as the one of
+	 * <code>MessageFormat</code> for non-negative integers; other arguments are
+	 * formatted by <code>MessageFormat</code>.
+	 */
+	private record PaddedNumbersMessage(int firstDigits, String separator, int secondDigits, CompiledMessage fallback) implements CompiledMessage {
+
+		private static final Pattern PADDED_NUMBERS_PATTERN = Pattern.compile("\\{0,number,(0+)}([^{}']*)\\{1,number,(0+)}");
+
+		/**
+		 * Create a <code>PaddedNumbersMessage</code> for a message pattern
+		 *
+		 * @param message  Message pattern
+		 * @param locale   Locale of the message
+		 * @param fallback Compiled message for other arguments
+		 * @return <code>PaddedNumbersMessage</code>, or empty if the message pattern
+		 *         cannot be formatted without <code>MessageFormat</code>
+		 */
+		private static Optional<CompiledMessage> of(String message, Locale locale, CompiledMessage fallback) {
+			Matcher matcher = PADDED_NUMBERS_PATTERN.matcher(message);
+			if (!matcher.matches() || DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0') {
+				return Optional.empty();
+			}
+			return Optional.of(new PaddedNumbersMessage(matcher.group(1).length(), matcher.group(2), matcher.group(3).length(), fallback));
+		}
+
+		@Override
+		public String format(Object[] args) {
+			if (args.length == 2 && args[0] instanceof Integer first && args[1] instanceof Integer second && first >= 0 && second >= 0) {
+				return format(first, second);
+			}
+			return fallback.format(args);
+		}
+
+		private String format(int first, int second) {
+			StringBuilder result = new StringBuilder(firstDigits + separator.length() + secondDigits);
+			appendPadded(result, first, firstDigits);
+			result.append(separator);
+			appendPadded(result, second, secondDigits);
+			return result.toString();
+		}
+
+		private static void appendPadded(StringBuilder result, int value, int digits) {
+			String number = Integer.toString(value);
+			result.repeat('0', Math.max(digits - number.length(), 0)).append(number);
+		}
+
+	}
+
 	private static final ResourceHandlerInstance instance = new ResourceHandlerInstance(DEFAULT_MESSAGE_BUNDLE_PATH);
 
 	/**
@@ -104,4 +208,22 @@ public class ResourceHandler {
 		return instance.getMessage(key, args);
 	}
 
+	/**
+	 * Get a value derived from the i18n message bundles, like a parser for a
+	 * localized format. <br/>
+	 * The value is created by <code>factory</code> from the messages of the
+	 * currently used locale on first use, and created again on first use after the
+	 * locale is changed. The factory identifies the value, so it should be a
+	 * constant.
+	 * 
+	 * @param factory Creates the value from a function returning the message
+	 *                string of a key
+	 * @param <T>     Type of the value
+	 * 
+	 * @return Value for the currently used locale
+	 */
+	public static <T> T getLocalized(final Function<UnaryOperator<String>, T> factory) {
+		return instance.getLocalized(factory);
+	}
+
 }
@@ -2,18 +2,37 @@
 package io;
 
 import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * The FileController class provides functionality for file handling.
+ * The FileController class provides functionality for file handling. Text is
+ * read and written as UTF-8 without changing its line endings. Files are
+ * written to a temporary file first, which then replaces the target file
+ * atomically, so readers never see partially written files.
  */
 public class FileController {
 
 	private static final Charset CHARSET = StandardCharsets.UTF_8;
+	/**
+	 * Files larger than this number of bytes are memory-mapped instead of read
+	 * through a buffer.
+	 */
+	private static final long MAPPING_THRESHOLD = 8L * 1024 * 1024;
+	/**
+	 * The largest array size that is supported by all virtual machines.
+	 */
+	private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
 	private FileController() {
 	}
@@ -26,17 +45,8 @@ public class FileController {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static String readInputStreamToString(InputStream inStream) throws IOException {
-		StringBuilder stringBuilder = new StringBuilder();
-		String ls = System.getProperty("line.separator", "\n");
-
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inStream, CHARSET))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				stringBuilder.append(line);
-				stringBuilder.append(ls);
-			}
-
-			return stringBuilder.toString();
+		try (inStream) {
+			return new String(inStream.readAllBytes(), CHARSET);
 		}
 	}
 
@@ -48,63 +58,113 @@ public class FileController {
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static String readFileToString(File file) throws IOException {
-		return readInputStreamToString(new FileInputStream(file));
+		return new String(readFileToBytes(file.toPath()), CHARSET);
 	}
 
 	/**
-	 * This method returns a {@link String} read from an {@link URL}.
-	 *
-	 * @param url - The url the {@link String} is read from.
-	 * @return a {@link String} read from the {@link URL}
-	 * @throws IOException if an I/O error occurs.
+	 * This method returns the bytes of a file. Large files are memory-mapped, so
+	 * their content is copied only once.
+	 * 
+	 * @param path - The path of the file to read.
+	 * @return the content of the file
+	 * @throws IOException if an I/O error occurs or the file is too large.
 	 */
-	public static String readURLToString(URL url) throws IOException {
-		return readInputStreamToString(url.openStream());
+	public static byte[] readFileToBytes(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size <= MAPPING_THRESHOLD) {
+				return Channels.newInputStream(channel).readAllBytes();
+			}
+			if (size > MAX_ARRAY_SIZE) {
+				throw new IOException("File %s is too large to be read (%d bytes)".formatted(path, size));
+			}
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			byte[] content = new byte[(int) size];
+			buffer.get(content);
+			return content;
+		}
 	}
 
 	/**
-	 * This method returns a {@link String} read from an {@link URL}. Allows to set
-	 * timeouts in milliseconds for connection building and reading data.
-	 *
-	 * @param url               - The url the {@link String} is read from.
-	 * @param connectionTimeout - The maximum duration that connecting may take.
-	 * @param readTimeout       - The maximum duration that reading the data may
-	 *                          take.
-	 * @return a {@link String} read from the {@link URL}
-	 * @throws IOException if an I/O error occurs or the connection times out.
+	 * This method saves a {@link String} to a {@link File}.
+	 * 
+	 * @param content - The {@link String} to be saved.
+	 * @param file    - The {@link File} to save the content to.
+	 * @throws IOException if an I/O error occurs.
 	 */
-	public static String readURLToString(URL url, int connectionTimeout, int readTimeout) throws IOException {
-		HttpURLConnection urlConnection = (HttpURLConnection) url.openConnection();
-		urlConnection.setConnectTimeout(connectionTimeout);
-		urlConnection.setReadTimeout(readTimeout);
+	public static void saveStringToFile(String content, File file) throws IOException {
+		byte[] bytes = content.getBytes(CHARSET);
+		saveBytesToFile(file, outputStream -> outputStream.write(bytes));
+	}
 
-		// Sometimes, the timeouts simply don't work. The solution is (obviously) to
-		// manually terminate the connection:
-		Thread interruptThread = Thread.startVirtualThread(() -> {
-			long timeout = (long) connectionTimeout + readTimeout;
-			try {
-				Thread.sleep(timeout);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
-			urlConnection.disconnect();
+	/**
+	 * This method saves text to a {@link File} while it is written by
+	 * <code>content</code>. The content of an existing file is only replaced if
+	 * <code>content</code> completes normally.
+	 * 
+	 * @param file    - The {@link File} to save the content to.
+	 * @param content - Writes the text to a buffered {@link Writer}, which must
+	 *                not be closed.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static void saveTextToFile(File file, ContentWriter<Writer> content) throws IOException {
+		saveBytesToFile(file, outputStream -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, CHARSET));
+			content.write(writer);
+			writer.flush();
 		});
-
-		String data = readInputStreamToString(urlConnection.getInputStream());
-		interruptThread.interrupt();
-		return data;
 	}
 
 	/**
-	 * This method saves a {@link String} to a {@link File}.
+	 * This method saves bytes to a {@link File} while they are written by
+	 * <code>content</code>. The bytes are written to a temporary file in the same
+	 * directory, which replaces the file atomically if <code>content</code>
+	 * completes normally. Otherwise, the temporary file is deleted and an existing
+	 * file is left unchanged.
 	 * 
-	 * @param content - The {@link String} to be saved.
 	 * @param file    - The {@link File} to save the content to.
+	 * @param content - Writes the bytes to a buffered {@link OutputStream}, which
+	 *                must not be closed.
 	 * @throws IOException if an I/O error occurs.
 	 */
-	public static void saveStringToFile(String content, File file) throws IOException {
-		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), CHARSET)) {
-			writer.write(content);
+	public static void saveBytesToFile(File file, ContentWriter<OutputStream> content) throws IOException {
+		Path target = file.toPath().toAbsolutePath();
+		// not created by Files.createTempFile, which would restrict the permissions of
+		// the saved file to its owner
+		Path temporary = target.resolveSibling(".%s.%x%s".formatted(target.getFileName(), ThreadLocalRandom.current().nextLong(), TEMPORARY_FILE_SUFFIX));
+		try {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporary, StandardOpenOption.CREATE_NEW))) {
+				content.write(outputStream);
+			}
+			moveAtomically(temporary, target);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	private static void moveAtomically(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			// e.g. on some network file systems, the file is still replaced in one step
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
 		}
 	}
+
+	/**
+	 * Writes the content of a file to an output.
+	 *
+	 * @param <T> - the type of the output.
+	 */
+	@FunctionalInterface
+	public interface ContentWriter<T> {
+		/**
+		 * Writes the content to an output.
+		 *
+		 * @param output - to write to.
+		 * @throws IOException if an I/O error occurs.
+		 */
+		void write(T output) throws IOException;
+	}
 }
@@ -0,0 +1,259 @@
+/* Licensed under MIT 2025. */
+package io;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The HttpFetcher class fetches resources over HTTP for all parts of the
+ * application. All requests share one {@link HttpClient}, which keeps
+ * connections to a host open and reuses them for later requests.<br/>
+ * <br/>
+ * Each caller has a timeout for the whole exchange, including reading the
+ * body. Concurrent text requests for the same {@link URI} are coalesced, so the
+ * resource is fetched only once and every caller gets its content. A coalesced
+ * exchange runs as long as any of its callers waits for it, and is aborted when
+ * all of them have given up.
+ */
+public final class HttpFetcher {
+
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).followRedirects(HttpClient.Redirect.NORMAL)
+			.executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+	/**
+	 * The running text requests; guarded by itself, so joining and leaving a
+	 * request is atomic.
+	 */
+	private static final Map<URI, SharedRequest> inFlight = new HashMap<>();
+
+	private HttpFetcher() {
+	}
+
+	/**
+	 * This method fetches a {@link String} from an {@link URI} without blocking.
+	 * If the same {@link URI} is already being fetched, no new request is sent and
+	 * the returned future completes with the content of the running request.
+	 *
+	 * @param uri     - The uri the {@link String} is fetched from.
+	 * @param timeout - The maximum duration that connecting and reading the data
+	 *                may take for this caller.
+	 * @return a future completing with the {@link String} fetched from the
+	 *         {@link URI}, or exceptionally with an {@link IOException} if the
+	 *         request fails, times out or has no success status.
+	 */
+	public static CompletableFuture<String> fetchStringAsync(URI uri, Duration timeout) {
+		SharedRequest shared;
+		boolean created = false;
+		synchronized (inFlight) {
+			shared = inFlight.get(uri);
+			if (shared == null) {
+				shared = new SharedRequest();
+				inFlight.put(uri, shared);
+				created = true;
+			}
+			shared.callers++;
+		}
+		if (created) {
+			start(uri, shared);
+		}
+
+		SharedRequest joined = shared;
+		// a copy, so the timeout of one caller does not complete the shared request
+		return shared.content.copy().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((content, exception) -> leave(uri, joined))
+				.exceptionallyCompose(exception -> failed(uri, exception));
+	}
+
+	/**
+	 * This method fetches a {@link String} from an {@link URI} and waits for it.
+	 *
+	 * @param uri     - The uri the {@link String} is fetched from.
+	 * @param timeout - The maximum duration that connecting and reading the data
+	 *                may take.
+	 * @return a {@link String} fetched from the {@link URI}
+	 * @throws IOException if an I/O error occurs, the request times out or the
+	 *                     response has no success status.
+	 */
+	public static String fetchString(URI uri, Duration timeout) throws IOException {
+		return await(fetchStringAsync(uri, timeout));
+	}
+
+	/**
+	 * This method downloads the content of an {@link URI} to a file without
+	 * blocking. Downloads are not coalesced, as each one writes to its own file.
+	 *
+	 * @param uri     - The uri the content is downloaded from.
+	 * @param file    - The file the content is written to. It is replaced if it
+	 *                exists.
+	 * @param timeout - The maximum duration that connecting and downloading may
+	 *                take.
+	 * @return a future completing with the file, or exceptionally with an
+	 *         {@link IOException} if the download fails, times out or has no
+	 *         success status.
+	 */
+	public static CompletableFuture<Path> downloadAsync(URI uri, Path file, Duration timeout) {
+		HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+		// the timeout of the request only covers receiving the headers, so the body
+		// has its own deadline, which aborts the exchange
+		return send(request, HttpResponse.BodyHandlers.ofFile(file)).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+				.exceptionallyCompose(exception -> failed(uri, exception));
+	}
+
+	/**
+	 * This method downloads the content of an {@link URI} to a file and waits for
+	 * it.
+	 *
+	 * @param uri     - The uri the content is downloaded from.
+	 * @param file    - The file the content is written to. It is replaced if it
+	 *                exists.
+	 * @param timeout - The maximum duration that connecting and downloading may
+	 *                take.
+	 * @return the file
+	 * @throws FileNotFoundException if there is no content at the {@link URI}.
+	 * @throws IOException           if an I/O error occurs, the download times out
+	 *                               or the response has no success status.
+	 */
+	public static Path download(URI uri, Path file, Duration timeout) throws IOException {
+		return await(downloadAsync(uri, file, timeout));
+	}
+
+	/**
+	 * Waits for a future returned by this class and rethrows the
+	 * {@link IOException} it completed with.
+	 *
+	 * @param <T>    - the type of the result.
+	 * @param future - to wait for.
+	 * @return the result of the future
+	 * @throws IOException if the future completed exceptionally or the current
+	 *                     thread is interrupted while waiting.
+	 */
+	public static <T> T await(CompletableFuture<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException cause) {
+				throw cause;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Starts the exchange of a new shared request, without a deadline of its own.
+	 * It is aborted when the content is cancelled by the last caller leaving.
+	 */
+	private static void start(URI uri, SharedRequest shared) {
+		CompletableFuture<String> exchange = send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+		shared.content.whenComplete((content, exception) -> exchange.cancel(true));
+		exchange.whenComplete((content, exception) -> {
+			// removed before completing, so callers after completion fetch the resource
+			// again
+			synchronized (inFlight) {
+				inFlight.remove(uri, shared);
+			}
+			if (exception != null) {
+				shared.content.completeExceptionally(exception);
+			} else {
+				shared.content.complete(content);
+			}
+		});
+	}
+
+	private static void leave(URI uri, SharedRequest shared) {
+		boolean abandoned;
+		synchronized (inFlight) {
+			shared.callers--;
+			abandoned = shared.callers == 0 && !shared.content.isDone();
+			if (abandoned) {
+				inFlight.remove(uri, shared);
+			}
+		}
+		// outside the lock, as cancelling completes the exchange, which removes the
+		// request
+		if (abandoned) {
+			shared.content.cancel(true);
+		}
+	}
+
+	/**
+	 * Sends a request. Completing the returned future exceptionally, e.g. by a
+	 * timeout or by cancelling it, aborts the exchange.
+	 */
+	private static <T> CompletableFuture<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+		// the body of an error response is discarded instead of being returned as
+		// content
+		HttpResponse.BodyHandler<T> successHandler = responseInfo -> isSuccess(responseInfo.statusCode()) ? bodyHandler.apply(responseInfo)
+				: HttpResponse.BodySubscribers.replacing(null);
+		CompletableFuture<HttpResponse<T>> response = CLIENT.sendAsync(request, successHandler);
+		CompletableFuture<T> body = response.thenCompose(completed -> {
+			if (isSuccess(completed.statusCode())) {
+				return CompletableFuture.completedFuture(completed.body());
+			}
+			return CompletableFuture.failedFuture(statusException(request.uri(), completed.statusCode()));
+		});
+		body.whenComplete((content, exception) -> {
+			if (exception != null) {
+				response.cancel(true);
+			}
+		});
+		return body;
+	}
+
+	private static <T> CompletableFuture<T> failed(URI uri, Throwable exception) {
+		Throwable cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+		if (cause instanceof IOException && cause.getMessage() != null) {
+			return CompletableFuture.failedFuture(cause);
+		}
+		if (cause instanceof TimeoutException) {
+			return CompletableFuture.failedFuture(new HttpTimeoutException("Request to %s timed out".formatted(uri)));
+		}
+		return CompletableFuture.failedFuture(new IOException("Request to %s failed".formatted(uri), cause));
+	}
+
+	private static IOException statusException(URI uri, int statusCode) {
+		if (statusCode == HttpURLConnection.HTTP_NOT_FOUND || statusCode == HttpURLConnection.HTTP_GONE) {
+			// like HttpURLConnection, so callers can tell missing resources from errors
+			return new FileNotFoundException(uri.toString());
+		}
+		return new IOException("Server returned HTTP status %d for %s".formatted(statusCode, uri));
+	}
+
+	private static boolean isSuccess(int statusCode) {
+		return statusCode >= 200 && statusCode < 300;
+	}
+
+	/**
+	 * A text request that is shared by all callers fetching the same {@link URI}
+	 * at the same time.
+	 */
+	private static final class SharedRequest {
+		private final CompletableFuture<String> content = new CompletableFuture<>();
+		/**
+		 * The number of callers waiting for the content; guarded by
+		 * {@link #inFlight}.
+		 */
+		private int callers;
+	}
+}
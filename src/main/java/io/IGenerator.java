@@ -1,10 +1,16 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package io;
 
 import data.Entry;
 import data.TimeSheet;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A generator is able to generate a document filled with values coming from a
@@ -20,10 +26,35 @@ public interface IGenerator {
 	 */
 	String generate();
 
+	/**
+	 * Generates a document like {@link #generate()}, but writes it to a
+	 * {@link Writer}. Generators that support it write the document while it is
+	 * generated instead of building it in memory first. The writer is not closed.
+	 * 
+	 * @param writer - The writer to write the generated document to.
+	 * @throws IOException if the document cannot be written.
+	 */
+	default void generate(Writer writer) throws IOException {
+		writer.write(generate());
+	}
+
+	/**
+	 * Generates a document like {@link #generate(Writer)} and writes it encoded
+	 * in UTF-8 to an {@link OutputStream}. The stream is flushed, but not closed.
+	 * 
+	 * @param outputStream - The stream to write the generated document to.
+	 * @throws IOException if the document cannot be written.
+	 */
+	default void generate(OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		generate(writer);
+		writer.flush();
+	}
+
 	/**
 	 * Returns the {@link FileNameExtensionFilter} associated with the generated
-	 * file. This can be used if the {@link String} given by {@link #generate()}
-	 * should be saved.
+	 * file. This can be used if the document given by {@link #generate()} should
+	 * be saved.
 	 * 
 	 * @return The {@link FileNameExtensionFilter} associated to the generated file.
 	 */
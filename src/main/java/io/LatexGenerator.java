@@ -9,10 +9,15 @@ import i18n.ResourceHandler;
 import lombok.Getter;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.stream.Stream;
 
 /**
  * The LatexGenerator generates a LaTeX string based on a template and fills it
@@ -36,8 +41,23 @@ public class LatexGenerator implements IGenerator {
 		LATEX_SPECIAL_CHARACTERS_REPLACE.put("~", "\\textasciitilde");
 		LATEX_SPECIAL_CHARACTERS_REPLACE.put("^", "\\textasciicircum");
 	}
+	/**
+	 * All special characters, so the text is escaped in a single pass
+	 */
+	private static final List<String> LATEX_SPECIAL_CHARACTERS = Stream
+			.concat(LATEX_SPECIAL_CHARACTERS_REPLACE.keySet().stream(), Arrays.stream(LATEX_SPECIAL_CHARACTERS_ESCAPE)).toList();
+
+	private static final DateTimeFormatter TABLE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yy");
 
-	private static final String TABLE_DATE_FORMAT = "dd.MM.yy";
+	private static final TimeSheetElement[] TIME_SHEET_ELEMENTS = TimeSheetElement.values();
+	private static final EntryElement[] ENTRY_ELEMENTS = EntryElement.values();
+	/**
+	 * All placeholders of the template, the document-public placeholders first,
+	 * followed by the placeholders of the entry table.
+	 */
+	private static final List<String> PLACEHOLDERS = Stream
+			.concat(Arrays.stream(TIME_SHEET_ELEMENTS).map(TimeSheetElement::getPlaceholder), Arrays.stream(ENTRY_ELEMENTS).map(EntryElement::getPlaceholder))
+			.toList();
 
 	private final TimeSheet timeSheet;
 	private final String template;
@@ -74,43 +94,58 @@ public class LatexGenerator implements IGenerator {
 
 	@Override
 	public String generate() {
-		String filledTex = template;
-
-		/*
-		 * This loop replaces the document-public placeholder in the TeX template with
-		 * the correct data.
-		 */
-		for (TimeSheetElement elem : TimeSheetElement.values()) {
-			filledTex = filledTex.replace(elem.getPlaceholder(), getSubstitute(timeSheet, elem));
+		LatexTemplate compiledTemplate = LatexTemplate.of(template, PLACEHOLDERS);
+		StringBuilder filledTex = new StringBuilder(compiledTemplate.getLiteralLength() * 2);
+		try {
+			fill(compiledTemplate, filledTex);
+		} catch (IOException e) {
+			// A StringBuilder never throws an IOException
+			throw new UncheckedIOException(e);
 		}
+		return filledTex.toString();
+	}
+
+	@Override
+	public void generate(Writer writer) throws IOException {
+		fill(LatexTemplate.of(template, PLACEHOLDERS), writer);
+	}
 
-		/*
-		 * This loop replaces the placeholder in the TeX template with the correct data.
-		 * If the TimeSheet contains to many elements for the table, all rows get filled
-		 * and the rest of data gets lost.
-		 */
-		for (EntryElement elem : EntryElement.values()) {
-			String placeholder = elem.getPlaceholder();
-			for (Entry entry : timeSheet.getEntries()) {
-				// Exclude vacation entries in table
-				if (excludeVacationEntries && entry.isVacation())
-					continue;
-				// quoteReplacement is required because the replacement string (including \, $,
-				// ^, ...) is interpreted as a regex expression otherwise
-				filledTex = filledTex.replaceFirst(placeholder, Matcher.quoteReplacement(getSubstitute(entry, elem)));
+	/**
+	 * Fills the compiled template with the data of the {@link TimeSheet} in a
+	 * single pass. Document-public placeholders are replaced with the data of the
+	 * {@link TimeSheet}, the n-th occurrence of a table placeholder is replaced
+	 * with the data of the n-th table entry. If the TimeSheet contains to many
+	 * elements for the table, all rows get filled and the rest of data gets lost.
+	 * Not-needed rows of the table are filled up with an empty string.
+	 *
+	 * @param compiledTemplate - the template to fill.
+	 * @param out              - the output to write the filled document to.
+	 * @throws IOException if the output cannot be written.
+	 */
+	private void fill(LatexTemplate compiledTemplate, Appendable out) throws IOException {
+		List<Entry> tableEntries = getTableEntries();
+		compiledTemplate.render((placeholder, occurrence) -> {
+			if (placeholder < TIME_SHEET_ELEMENTS.length) {
+				return getSubstitute(timeSheet, TIME_SHEET_ELEMENTS[placeholder]);
 			}
-		}
+			if (occurrence >= tableEntries.size()) {
+				return "";
+			}
+			return getSubstitute(tableEntries.get(occurrence), ENTRY_ELEMENTS[placeholder - TIME_SHEET_ELEMENTS.length]);
+		}, out);
+	}
 
-		/*
-		 * This loop fills up all not-needed rows of the table with a blank space.
-		 * IMPORTANT: Some kind of character is needed to make the TeX compile correctly
-		 * on some TeX compilers.
-		 */
-		for (EntryElement elem : EntryElement.values()) {
-			filledTex = filledTex.replace(elem.getPlaceholder(), "");
+	/**
+	 * Returns the entries shown in the entry table, in the order of the
+	 * {@link TimeSheet}.
+	 *
+	 * @return The entries of the table.
+	 */
+	private List<Entry> getTableEntries() {
+		if (!excludeVacationEntries) {
+			return timeSheet.getEntries();
 		}
-
-		return filledTex;
+		return timeSheet.getEntries().stream().filter(entry -> !entry.isVacation()).toList();
 	}
 
 	@Override
@@ -158,10 +193,10 @@ public class LatexGenerator implements IGenerator {
 			value = Double.toString(timeSheet.getProfession().getWage());
 			break;
 		case VACATION:
-			value = timeSheet.getTotalVacationTime().toString();
+			value = timeSheet.getStatistics().getTotalVacationTime().toString();
 			break;
 		case HOURS_SUM:
-			value = timeSheet.getTotalWorkTime().add(timeSheet.getTotalVacationTime()).toString();
+			value = timeSheet.getStatistics().getTotalTime().toString();
 			break;
 		case TRANSFER_PRED:
 			value = timeSheet.getPredTransfer().toString();
@@ -192,8 +227,7 @@ public class LatexGenerator implements IGenerator {
 			value = escapeText(entry.getAction());
 			break;
 		case TABLE_DATE:
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TABLE_DATE_FORMAT);
-			value = entry.getDate().format(formatter);
+			value = entry.getDate().format(TABLE_DATE_FORMATTER);
 			break;
 		case TABLE_START:
 			value = entry.getStart().toString();
@@ -225,23 +259,17 @@ public class LatexGenerator implements IGenerator {
 	 * @return The escaped text string
 	 */
 	public static String escapeText(String text) {
-		String escapedText = text;
-
-		escapedText = ContextStringReplacer.replace(escapedText, LATEX_SPECIAL_CHARACTERS_REPLACE.keySet(), r -> {
+		return ContextStringReplacer.replace(text, LATEX_SPECIAL_CHARACTERS, r -> {
 			String replaceWith = LATEX_SPECIAL_CHARACTERS_REPLACE.get(r.getSubstring());
 
-			if (r.getLookahead(1).equals(" ")) {
+			if (replaceWith == null) {
+				r.replace("\\" + r.getSubstring());
+			} else if (r.getLookahead(1).equals(" ")) {
 				r.replace(replaceWith + "\\");
 			} else {
 				r.replace(replaceWith + " ");
 			}
 		});
-
-		for (String specialCharacter : LATEX_SPECIAL_CHARACTERS_ESCAPE) {
-			escapedText = escapedText.replace(specialCharacter, "\\" + specialCharacter);
-		}
-
-		return escapedText;
 	}
 
 	/**
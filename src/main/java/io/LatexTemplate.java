@@ -0,0 +1,177 @@
+/* Licensed under MIT 2025. */
+package io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A template that has been tokenized once into literal segments and placeholder
+ * slots. Every slot knows which placeholder it stands for and how many
+ * occurrences of the same placeholder precede it, so a template can be filled
+ * in a single linear pass without searching the document again.<br/>
+ * <br/>
+ * Compiled templates are immutable and cached by their content and
+ * placeholders, so they can be shared between threads and reused across time
+ * sheets.
+ */
+final class LatexTemplate {
+
+	/**
+	 * Upper bound of cached templates. Normally only a handful of templates is in
+	 * use, the bound only protects against callers compiling arbitrary templates.
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 32;
+	private static final Map<CacheKey, LatexTemplate> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * The literal segments, one more than there are slots. Segment {@code i}
+	 * precedes slot {@code i}, the last segment follows the last slot.
+	 */
+	private final String[] literals;
+	private final int[] slotPlaceholders;
+	private final int[] slotOccurrences;
+	private final int[] occurrenceCounts;
+	private final int literalLength;
+
+	private LatexTemplate(String[] literals, int[] slotPlaceholders, int[] slotOccurrences, int[] occurrenceCounts) {
+		this.literals = literals;
+		this.slotPlaceholders = slotPlaceholders;
+		this.slotOccurrences = slotOccurrences;
+		this.occurrenceCounts = occurrenceCounts;
+
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Returns the compiled form of a template, compiling it only if it is not yet
+	 * cached.
+	 *
+	 * @param template     - the template to compile.
+	 * @param placeholders - the placeholders to look for. If several placeholders
+	 *                     match at the same position, the first one in the list is
+	 *                     used.
+	 * @return The compiled template.
+	 */
+	static LatexTemplate of(String template, List<String> placeholders) {
+		CacheKey key = new CacheKey(template, placeholders);
+		LatexTemplate compiled = CACHE.get(key);
+		if (compiled == null) {
+			if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+				CACHE.clear();
+			}
+			compiled = CACHE.computeIfAbsent(key, k -> compile(template, placeholders));
+		}
+		return compiled;
+	}
+
+	/**
+	 * Tokenizes a template into literal segments and placeholder slots without
+	 * caching the result.
+	 *
+	 * @param template     - the template to compile.
+	 * @param placeholders - the placeholders to look for. If several placeholders
+	 *                     match at the same position, the first one in the list is
+	 *                     used.
+	 * @return The compiled template.
+	 */
+	static LatexTemplate compile(String template, List<String> placeholders) {
+		String[] candidates = placeholders.toArray(String[]::new);
+		int[] occurrenceCounts = new int[candidates.length];
+		List<String> literals = new ArrayList<>();
+		List<Integer> slotPlaceholders = new ArrayList<>();
+		List<Integer> slotOccurrences = new ArrayList<>();
+
+		int literalStart = 0;
+		int position = 0;
+		while (position < template.length()) {
+			int match = matchAt(template, position, candidates);
+			if (match < 0) {
+				position++;
+				continue;
+			}
+			literals.add(template.substring(literalStart, position));
+			slotPlaceholders.add(match);
+			slotOccurrences.add(occurrenceCounts[match]++);
+			position += candidates[match].length();
+			literalStart = position;
+		}
+		literals.add(template.substring(literalStart));
+
+		return new LatexTemplate(literals.toArray(String[]::new), slotPlaceholders.stream().mapToInt(Integer::intValue).toArray(),
+				slotOccurrences.stream().mapToInt(Integer::intValue).toArray(), occurrenceCounts);
+	}
+
+	private static int matchAt(String template, int position, String[] candidates) {
+		for (int i = 0; i < candidates.length; i++) {
+			if (!candidates[i].isEmpty() && template.startsWith(candidates[i], position)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns how often a placeholder occurs in the template.
+	 *
+	 * @param placeholder - the index of the placeholder in the list the template
+	 *                    was compiled with.
+	 * @return The number of occurrences.
+	 */
+	int getOccurrences(int placeholder) {
+		return occurrenceCounts[placeholder];
+	}
+
+	/**
+	 * Returns the total length of all literal segments, which is a lower bound of
+	 * the length of the filled document.
+	 *
+	 * @return The length of the literal segments.
+	 */
+	int getLiteralLength() {
+		return literalLength;
+	}
+
+	/**
+	 * Fills the template by writing all literal segments and the substitutes of
+	 * all slots to the given output, in document order.
+	 *
+	 * @param substitutes - provides the substitute of every slot.
+	 * @param out         - the output to write the filled document to.
+	 * @throws IOException if the output cannot be written.
+	 */
+	void render(SubstituteProvider substitutes, Appendable out) throws IOException {
+		for (int slot = 0; slot < slotPlaceholders.length; slot++) {
+			out.append(literals[slot]);
+			out.append(substitutes.getSubstitute(slotPlaceholders[slot], slotOccurrences[slot]));
+		}
+		out.append(literals[literals.length - 1]);
+	}
+
+	/**
+	 * Provides the substitutes for the slots of a {@link LatexTemplate}.
+	 */
+	@FunctionalInterface
+	interface SubstituteProvider {
+
+		/**
+		 * Returns the substitute for one occurrence of a placeholder.
+		 *
+		 * @param placeholder - the index of the placeholder in the list the template
+		 *                    was compiled with.
+		 * @param occurrence  - the number of occurrences of the same placeholder
+		 *                    preceding this one in the template.
+		 * @return The substitute.
+		 */
+		String getSubstitute(int placeholder, int occurrence);
+	}
+
+	private record CacheKey(String template, List<String> placeholders) {
+	}
+}
@@ -0,0 +1,378 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import checker.ExportType;
+import i18n.ResourceHandler;
+import io.FileController;
+import main.request.BatchRequest;
+import org.apache.commons.io.FilenameUtils;
+import parser.json.JsonMappers;
+import service.TimeSheetResult;
+import service.TimeSheetService;
+import ui.export.PDFCompiler;
+import ui.json.Global;
+import ui.json.Month;
+import ui.json.UISettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates the time sheets of a {@link BatchRequest} inside one process. Each
+ * global file and the LaTeX or PDF template are read once, and all month files
+ * are parsed, checked and rendered on a bounded pool of worker threads. One
+ * output file is written per month file, named after the month file. Month
+ * files of a manifest keep their path relative to the manifest, so month files
+ * with the same name in different directories do not overwrite each other. No
+ * part of the user interface is shown, so PDF files can be generated on
+ * headless machines as well.
+ */
+public class BatchGenerator {
+
+	private static final String MONTH_FILE_EXTENSION = "json";
+	private static final String LATEX_FILE_EXTENSION = ".tex";
+	private static final String PDF_FILE_EXTENSION = ".pdf";
+	private static final String MANIFEST_COMMENT_PREFIX = "#";
+	private static final char MANIFEST_GLOBAL_SEPARATOR = '|';
+	private static final String SUMMARY_FILE_NAME = "batch-summary.txt";
+
+	private final BatchRequest request;
+
+	/**
+	 * Constructs a new {@link BatchGenerator} instance.
+	 *
+	 * @param request - the batch request to generate the time sheets for.
+	 */
+	public BatchGenerator(BatchRequest request) {
+		this.request = request;
+	}
+
+	/**
+	 * Generates one output file per month file of the batch request and writes a
+	 * summary of all failures to the output directory.
+	 *
+	 * @return The results of all month files, in the order of the month files.
+	 * @throws IOException if the shared input files cannot be read, no month files
+	 *                     are found or the output directory cannot be created.
+	 */
+	public List<BatchResult> run() throws IOException {
+		Map<File, GlobalFile> globalFiles = new HashMap<>();
+		globalFiles.put(request.getGlobalFile(), loadGlobalFile(request.getGlobalFile()));
+		TimeSheetService service = new TimeSheetService();
+		OutputWriter outputWriter = createOutputWriter(service);
+
+		List<MonthFile> monthFiles = collectMonthFiles();
+		if (monthFiles.isEmpty()) {
+			throw new IOException(ResourceHandler.getMessage("error.batch.noMonthFiles", request.getMonthSource().getPath()));
+		}
+
+		File outputDirectory = request.getOutputDirectory();
+		if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+			throw new IOException(ResourceHandler.getMessage("error.batch.outputDirectory", outputDirectory.getPath()));
+		}
+
+		List<BatchResult> results = new ArrayList<>(monthFiles.size());
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(request.getThreads(), monthFiles.size()))) {
+			Set<Path> duplicateOutputs = findDuplicateOutputs(monthFiles);
+			List<Future<BatchResult>> futures = new ArrayList<>(monthFiles.size());
+			for (MonthFile monthFile : monthFiles) {
+				if (duplicateOutputs.contains(monthFile.output())) {
+					String error = ResourceHandler.getMessage("error.batch.duplicateOutput", monthFile.output());
+					futures.add(CompletableFuture.completedFuture(BatchResult.failure(monthFile.file(), error, Duration.ZERO)));
+					continue;
+				}
+
+				GlobalFile global = globalFiles.get(monthFile.globalFile());
+				if (global == null) {
+					try {
+						global = loadGlobalFile(monthFile.globalFile());
+						globalFiles.put(monthFile.globalFile(), global);
+					} catch (IOException e) {
+						futures.add(CompletableFuture.completedFuture(BatchResult.failure(monthFile.file(), e.getMessage(), Duration.ZERO)));
+						continue;
+					}
+				}
+				GlobalFile monthGlobal = global;
+				futures.add(executor.submit(() -> generate(monthFile, monthGlobal, service, outputWriter)));
+			}
+
+			for (int i = 0; i < futures.size(); i++) {
+				results.add(awaitResult(monthFiles.get(i).file(), futures.get(i)));
+			}
+		}
+
+		FileController.saveStringToFile(summarize(results), new File(outputDirectory, SUMMARY_FILE_NAME));
+		return results;
+	}
+
+	/**
+	 * Creates a human-readable summary of batch results. The summary contains the
+	 * number of generated time sheets, one line per failed month file and the
+	 * time spent on each month file.
+	 *
+	 * @param results - the results to summarize.
+	 * @return The summary.
+	 */
+	public static String summarize(List<BatchResult> results) {
+		StringBuilder summary = new StringBuilder();
+		long generated = results.stream().filter(BatchResult::isSuccess).count();
+		summary.append(ResourceHandler.getMessage("command.output.batch.summary", generated, results.size())).append(System.lineSeparator());
+
+		for (BatchResult result : results) {
+			result.error().ifPresent(error -> summary.append(ResourceHandler.getMessage("command.output.batch.failure", result.monthFile().getPath(), error))
+					.append(System.lineSeparator()));
+		}
+		for (BatchResult result : results) {
+			summary.append(ResourceHandler.getMessage("command.output.batch.timing", result.monthFile().getPath(), result.duration().toMillis()))
+					.append(System.lineSeparator());
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * Collects the month files of the batch request. If the month source is a
+	 * directory, all JSON files in it are used. Otherwise, the month source is read
+	 * as a manifest containing one path per line. A line may start with the path of
+	 * its own global file followed by "|", otherwise the global file of the request
+	 * is used. Relative paths are resolved against the directory of the manifest,
+	 * and empty lines and lines starting with "#" are ignored.
+	 *
+	 * @return The month files, sorted by path for directories and in manifest
+	 *         order otherwise.
+	 * @throws IOException if the month source cannot be read.
+	 */
+	private List<MonthFile> collectMonthFiles() throws IOException {
+		File monthSource = request.getMonthSource();
+		if (monthSource.isDirectory()) {
+			File[] files = monthSource.listFiles((dir, name) -> FilenameUtils.isExtension(name, MONTH_FILE_EXTENSION));
+			if (files == null) {
+				throw new IOException(ResourceHandler.getMessage("error.batch.noMonthFiles", monthSource.getPath()));
+			}
+			return Arrays.stream(files).sorted(Comparator.comparing(File::getPath))
+					.map(file -> new MonthFile(file, request.getGlobalFile(), Path.of(FilenameUtils.getBaseName(file.getName())))).toList();
+		}
+
+		Path manifestDirectory = monthSource.getAbsoluteFile().toPath().getParent();
+		List<MonthFile> monthFiles = new ArrayList<>();
+		for (String line : Files.readAllLines(monthSource.toPath())) {
+			String entry = line.strip();
+			if (entry.isEmpty() || entry.startsWith(MANIFEST_COMMENT_PREFIX)) {
+				continue;
+			}
+			File globalFile = request.getGlobalFile();
+			int separator = entry.indexOf(MANIFEST_GLOBAL_SEPARATOR);
+			if (separator >= 0) {
+				globalFile = manifestDirectory.resolve(entry.substring(0, separator).strip()).normalize().toFile();
+				entry = entry.substring(separator + 1).strip();
+			}
+			Path monthFile = manifestDirectory.resolve(entry).normalize();
+			monthFiles.add(new MonthFile(monthFile.toFile(), globalFile, getOutputPath(manifestDirectory, monthFile)));
+		}
+		return monthFiles;
+	}
+
+	/**
+	 * Gets the path of the output file of a month file listed in a manifest,
+	 * relative to the output directory and without extension. It is the path of
+	 * the month file relative to the manifest, or only its name if the month file
+	 * is outside the directory of the manifest.
+	 */
+	private static Path getOutputPath(Path manifestDirectory, Path monthFile) {
+		Path fileName = Path.of(FilenameUtils.getBaseName(monthFile.getFileName().toString()));
+		if (!monthFile.startsWith(manifestDirectory)) {
+			return fileName;
+		}
+		Path parent = manifestDirectory.relativize(monthFile).getParent();
+		return parent == null ? fileName : parent.resolve(fileName);
+	}
+
+	/**
+	 * Finds the output paths shared by more than one month file, e.g. of month
+	 * files with the same name from outside the directory of the manifest. These
+	 * month files fail instead of overwriting each other's output.
+	 */
+	private static Set<Path> findDuplicateOutputs(List<MonthFile> monthFiles) {
+		Set<Path> outputs = new HashSet<>();
+		Set<Path> duplicates = new HashSet<>();
+		for (MonthFile monthFile : monthFiles) {
+			if (!outputs.add(monthFile.output())) {
+				duplicates.add(monthFile.output());
+			}
+		}
+		return duplicates;
+	}
+
+	/**
+	 * Reads a global file, which is shared by all month files using it. For PDF
+	 * files, it is also parsed into the data of the user interface here once.
+	 *
+	 * @param globalFile - the global file to read.
+	 * @return The content of the global file.
+	 * @throws IOException if the global file cannot be read or parsed.
+	 */
+	private GlobalFile loadGlobalFile(File globalFile) throws IOException {
+		String json = FileController.readFileToString(globalFile);
+		Global pdfGlobal = request.getExportType() == ExportType.EXPORT_PDF ? JsonMappers.getUiReader(Global.class).readValue(json) : null;
+		return new GlobalFile(json, pdfGlobal);
+	}
+
+	/**
+	 * Creates the writer of the output files requested by the export type of the
+	 * batch request. Everything shared by all month files is loaded here once.
+	 *
+	 * @param service - the service that renders LaTeX output files.
+	 * @return The output writer.
+	 */
+	private OutputWriter createOutputWriter(TimeSheetService service) {
+		if (request.getExportType() == ExportType.EXPORT_PDF) {
+			UISettings pdfSettings = new UISettings();
+			pdfSettings.setFlattenPDF(request.isFlattenPdf());
+			pdfSettings.setAddVacationEntry(!request.isExcludeVacationEntries());
+			PDFCompiler.preloadTemplate();
+
+			return (result, monthJson, global, outputFile) -> {
+				Month month = JsonMappers.getUiReader(Month.class).readValue(monthJson);
+				Optional<String> error = PDFCompiler.compileToPDF(global.pdfGlobal(), month, outputFile, pdfSettings);
+				if (error.isPresent()) {
+					throw new IOException(error.get());
+				}
+			};
+		}
+
+		// written while it is rendered, so the document is never held in memory as a whole
+		return (result, monthJson, global, outputFile) -> FileController.saveTextToFile(outputFile,
+				writer -> service.writeLatex(result.getTimeSheet().orElseThrow(), request.isExcludeVacationEntries(), writer));
+	}
+
+	/**
+	 * Parses, checks and renders a single month file. All errors are reported in
+	 * the result instead of being thrown, so that one invalid month file does not
+	 * abort the whole batch.
+	 *
+	 * @param source       - the month file to generate the time sheet for.
+	 * @param global       - the global file of the month file.
+	 * @param service      - the service that parses and checks the time sheet.
+	 * @param outputWriter - the writer of the output file.
+	 * @return The result for the month file.
+	 */
+	private BatchResult generate(MonthFile source, GlobalFile global, TimeSheetService service, OutputWriter outputWriter) {
+		File monthFile = source.file();
+		long start = System.nanoTime();
+		try {
+			boolean pdf = request.getExportType() == ExportType.EXPORT_PDF;
+			// read once, so the PDF is filled from the same content that was validated
+			byte[] month = FileController.readFileToBytes(monthFile.toPath());
+			// only checked here, the output file is rendered by the output writer
+			TimeSheetResult result = service.validate(global.json(), new ByteArrayInputStream(month), request.getExportType());
+
+			if (result.getStatus() == TimeSheetResult.Status.FAILED) {
+				return BatchResult.failure(monthFile, result.getFailure().orElse(null), elapsedSince(start));
+			}
+			if (result.getStatus() == TimeSheetResult.Status.INVALID) {
+				return BatchResult.failure(monthFile, String.join(" ", result.getErrorMessages()), elapsedSince(start));
+			}
+
+			String extension = pdf ? PDF_FILE_EXTENSION : LATEX_FILE_EXTENSION;
+			File outputFile = request.getOutputDirectory().toPath().resolve(source.output() + extension).toFile();
+			Files.createDirectories(outputFile.toPath().getParent());
+			outputWriter.write(result, month, global, outputFile);
+			return BatchResult.success(monthFile, elapsedSince(start));
+		} catch (IOException | IllegalArgumentException e) {
+			return BatchResult.failure(monthFile, e.getMessage(), elapsedSince(start));
+		} catch (RuntimeException e) {
+			// unexpected, e.g. thrown by PDFBox while filling the form, but reported with
+			// the time spent on the month file like all other failures
+			return BatchResult.failure(monthFile, e.toString(), elapsedSince(start));
+		}
+	}
+
+	private static Duration elapsedSince(long startNanos) {
+		return Duration.ofNanos(System.nanoTime() - startNanos);
+	}
+
+	private static BatchResult awaitResult(File monthFile, Future<BatchResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			return BatchResult.failure(monthFile, e.getCause().getMessage(), Duration.ZERO);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return BatchResult.failure(monthFile, e.getMessage(), Duration.ZERO);
+		}
+	}
+
+	/**
+	 * A month file of the batch request.
+	 *
+	 * @param file       The month file.
+	 * @param globalFile The global file of the month file.
+	 * @param output     The path of its output file relative to the output
+	 *                   directory, without extension.
+	 */
+	private record MonthFile(File file, File globalFile, Path output) {
+	}
+
+	/**
+	 * A global file shared by month files of the batch request.
+	 *
+	 * @param json      The content of the global file.
+	 * @param pdfGlobal The parsed global file for PDF files, null for LaTeX files.
+	 */
+	private record GlobalFile(String json, Global pdfGlobal) {
+	}
+
+	/**
+	 * Writes the output file of a valid time sheet.
+	 */
+	@FunctionalInterface
+	private interface OutputWriter {
+		void write(TimeSheetResult result, byte[] monthJson, GlobalFile global, File outputFile) throws IOException;
+	}
+
+	/**
+	 * The result of generating the time sheet of a single month file.
+	 *
+	 * @param monthFile The month file the time sheet was generated for.
+	 * @param error     The error message, empty if the time sheet was generated.
+	 * @param duration  The time spent on parsing, checking and rendering the month
+	 *                  file.
+	 */
+	public record BatchResult(File monthFile, Optional<String> error, Duration duration) {
+
+		static BatchResult success(File monthFile, Duration duration) {
+			return new BatchResult(monthFile, Optional.empty(), duration);
+		}
+
+		static BatchResult failure(File monthFile, String error, Duration duration) {
+			return new BatchResult(monthFile, Optional.of(String.valueOf(error)), duration);
+		}
+
+		/**
+		 * If the time sheet of the month file was generated.
+		 *
+		 * @return True if no error occurred, false otherwise.
+		 */
+		public boolean isSuccess() {
+			return error.isEmpty();
+		}
+	}
+
+}
@@ -0,0 +1,286 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import checker.ExportType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import i18n.ResourceHandler;
+import parser.json.JsonMappers;
+import service.TimeSheetResult;
+import service.TimeSheetService;
+import ui.export.PDFCompiler;
+import ui.json.Global;
+import ui.json.Month;
+import ui.json.UISettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Serves the validation and generation of time sheets over HTTP, so other
+ * tools can generate time sheets without starting a new process per time
+ * sheet. The server only listens on the loopback address and handles every
+ * request on its own virtual thread.<br/>
+ * <br/>
+ * The endpoints {@code /validate}, {@code /latex} and {@code /pdf} accept a
+ * POST request whose body is a json object with the objects {@code global}
+ * and {@code month}, in the format of the global and month files. The query
+ * parameter {@code export=pdf} checks {@code /validate} for a PDF export,
+ * {@code excludeVacation=true} hides vacation entries and
+ * {@code keepForm=true} keeps the fields of a PDF editable. The endpoint
+ * {@code /metrics} returns the latency and throughput of all endpoints.<br/>
+ * <br/>
+ * The templates, json mappers and holidays are loaded once and shared by all
+ * requests.
+ */
+public class GenerationServer {
+
+	private static final String VALIDATE_PATH = "/validate";
+	private static final String LATEX_PATH = "/latex";
+	private static final String PDF_PATH = "/pdf";
+	private static final String METRICS_PATH = "/metrics";
+
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+	private static final String LATEX_CONTENT_TYPE = "application/x-tex; charset=utf-8";
+	private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+	private static final int STATUS_OK = 200;
+	private static final int STATUS_BAD_REQUEST = 400;
+	private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+	private static final int STATUS_UNPROCESSABLE_CONTENT = 422;
+	private static final int STATUS_INTERNAL_SERVER_ERROR = 500;
+
+	private final TimeSheetService service;
+	private final UISettings pdfSettings;
+	private final ServerMetrics metrics = new ServerMetrics();
+	private final ExecutorService executor;
+	private final HttpServer server;
+
+	/**
+	 * Constructs a new {@link GenerationServer} instance and loads all templates.
+	 * The server does not accept requests until it is started.
+	 *
+	 * @param port - the port to listen on, 0 to let the system choose a free port.
+	 * @throws IOException if a template cannot be read or the port cannot be bound.
+	 */
+	public GenerationServer(int port) throws IOException {
+		this.service = new TimeSheetService();
+		this.pdfSettings = new UISettings();
+		PDFCompiler.preloadTemplate();
+
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.setExecutor(executor);
+		server.createContext(VALIDATE_PATH, exchange -> handle(exchange, VALIDATE_PATH, this::validate));
+		server.createContext(LATEX_PATH, exchange -> handle(exchange, LATEX_PATH, this::generateLatex));
+		server.createContext(PDF_PATH, exchange -> handle(exchange, PDF_PATH, this::generatePdf));
+		server.createContext(METRICS_PATH, this::sendMetrics);
+	}
+
+	/**
+	 * Starts accepting requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops accepting requests and waits for the requests in progress to finish.
+	 */
+	public void stop() {
+		server.stop(0);
+		executor.close();
+	}
+
+	/**
+	 * Gets the port the server listens on.
+	 *
+	 * @return The port.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	private void handle(HttpExchange exchange, String endpoint, Endpoint handler) throws IOException {
+		long start = System.nanoTime();
+		Response response;
+		try {
+			if (!exchange.getRequestMethod().equals("POST")) {
+				exchange.getResponseHeaders().set("Allow", "POST");
+				response = new Response(STATUS_METHOD_NOT_ALLOWED, JSON_CONTENT_TYPE, new byte[0]);
+			} else {
+				response = readRequest(exchange).map(request -> handler.handle(request, parseQuery(exchange)))
+						.orElseGet(() -> failure(STATUS_BAD_REQUEST, ResourceHandler.getMessage("error.server.invalidRequest")));
+			}
+		} catch (RuntimeException e) {
+			Logger.getGlobal().warning("Request to %s failed: %s".formatted(endpoint, e));
+			response = failure(STATUS_INTERNAL_SERVER_ERROR, String.valueOf(e.getMessage()));
+		}
+
+		try (exchange) {
+			send(exchange, response);
+		} finally {
+			metrics.record(endpoint, response.status(), System.nanoTime() - start);
+		}
+	}
+
+	private Response validate(TimeSheetRequest request, Map<String, String> query) {
+		ExportType exportType = "pdf".equals(query.get("export")) ? ExportType.EXPORT_PDF : ExportType.EXPORT_LATEX;
+		TimeSheetResult result = service.validate(request.global(), request.monthStream(), exportType);
+		return toJsonResponse(result, result.getStatus() == TimeSheetResult.Status.FAILED ? STATUS_BAD_REQUEST : STATUS_OK);
+	}
+
+	private Response generateLatex(TimeSheetRequest request, Map<String, String> query) {
+		TimeSheetResult result = service.generateLatex(request.global(), request.monthStream(), Boolean.parseBoolean(query.get("excludeVacation")));
+		if (!result.isValid()) {
+			return toErrorResponse(result);
+		}
+		return new Response(STATUS_OK, LATEX_CONTENT_TYPE, result.getOutput().orElseThrow().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Response generatePdf(TimeSheetRequest request, Map<String, String> query) {
+		TimeSheetResult result = service.validate(request.global(), request.monthStream(), ExportType.EXPORT_PDF);
+		if (!result.isValid()) {
+			return toErrorResponse(result);
+		}
+
+		Global global;
+		Month month;
+		try {
+			global = JsonMappers.getUiReader(Global.class).readValue(request.globalNode());
+			month = JsonMappers.getUiReader(Month.class).readValue(request.monthNode());
+		} catch (IOException e) {
+			return failure(STATUS_BAD_REQUEST, e.getMessage());
+		}
+
+		UISettings settings = new UISettings(pdfSettings);
+		settings.setAddVacationEntry(!Boolean.parseBoolean(query.get("excludeVacation")));
+		settings.setFlattenPDF(!Boolean.parseBoolean(query.get("keepForm")));
+		ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+		Optional<String> error = PDFCompiler.compileToPDF(global, month, pdf, settings);
+		if (error.isPresent()) {
+			return failure(STATUS_UNPROCESSABLE_CONTENT, error.get());
+		}
+		return new Response(STATUS_OK, PDF_CONTENT_TYPE, pdf.toByteArray());
+	}
+
+	private void sendMetrics(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if (!exchange.getRequestMethod().equals("GET")) {
+				exchange.getResponseHeaders().set("Allow", "GET");
+				send(exchange, new Response(STATUS_METHOD_NOT_ALLOWED, JSON_CONTENT_TYPE, new byte[0]));
+				return;
+			}
+			send(exchange, toJson(STATUS_OK, metrics.toJson()));
+		}
+	}
+
+	private static Optional<TimeSheetRequest> readRequest(HttpExchange exchange) {
+		JsonNode body;
+		try (InputStream requestBody = exchange.getRequestBody()) {
+			body = JsonMappers.getUiReader(JsonNode.class).readTree(requestBody);
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+		if (body == null || !body.path("global").isObject() || !body.path("month").isObject()) {
+			return Optional.empty();
+		}
+
+		JsonNode global = body.get("global");
+		JsonNode month = body.get("month");
+		return Optional.of(new TimeSheetRequest(global.toString(), month.toString().getBytes(StandardCharsets.UTF_8), global, month));
+	}
+
+	private static Map<String, String> parseQuery(HttpExchange exchange) {
+		Map<String, String> query = new HashMap<>();
+		String rawQuery = exchange.getRequestURI().getRawQuery();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String parameter : rawQuery.split("&")) {
+			int separator = parameter.indexOf('=');
+			String name = separator < 0 ? parameter : parameter.substring(0, separator);
+			String value = separator < 0 ? "" : parameter.substring(separator + 1);
+			query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return query;
+	}
+
+	private static Response toErrorResponse(TimeSheetResult result) {
+		return toJsonResponse(result, result.getStatus() == TimeSheetResult.Status.FAILED ? STATUS_BAD_REQUEST : STATUS_UNPROCESSABLE_CONTENT);
+	}
+
+	private static Response toJsonResponse(TimeSheetResult result, int status) {
+		ObjectNode json = JsonNodeFactory.instance.objectNode();
+		json.put("status", result.getStatus().name());
+		ArrayNode errors = json.putArray("errors");
+		result.getErrorMessages().forEach(errors::add);
+		result.getFailure().ifPresent(failure -> json.put("failure", failure));
+		return toJson(status, json);
+	}
+
+	private static Response failure(int status, String message) {
+		ObjectNode json = JsonNodeFactory.instance.objectNode();
+		json.put("status", TimeSheetResult.Status.FAILED.name());
+		json.putArray("errors");
+		json.put("failure", message);
+		return toJson(status, json);
+	}
+
+	private static Response toJson(int status, JsonNode json) {
+		try {
+			return new Response(status, JSON_CONTENT_TYPE, JsonMappers.getUiWriter(JsonNode.class).writeValueAsBytes(json));
+		} catch (IOException e) {
+			// a tree of plain nodes can always be written
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void send(HttpExchange exchange, Response response) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", response.contentType());
+		exchange.sendResponseHeaders(response.status(), response.body().length == 0 ? -1 : response.body().length);
+		if (response.body().length > 0) {
+			try (OutputStream responseBody = exchange.getResponseBody()) {
+				responseBody.write(response.body());
+			}
+		}
+	}
+
+	/**
+	 * Handles a request to a time sheet endpoint.
+	 */
+	@FunctionalInterface
+	private interface Endpoint {
+		Response handle(TimeSheetRequest request, Map<String, String> query);
+	}
+
+	/**
+	 * The time sheet sent to an endpoint, both as json text for the parser and as
+	 * json tree for the PDF export.
+	 */
+	private record TimeSheetRequest(String global, byte[] month, JsonNode globalNode, JsonNode monthNode) {
+		private InputStream monthStream() {
+			return new ByteArrayInputStream(month);
+		}
+	}
+
+	private record Response(int status, String contentType, byte[] body) {
+	}
+}
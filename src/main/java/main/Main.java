@@ -1,24 +1,30 @@
 /* Licensed under MIT 2023-2025. */
 package main;
 
-import checker.*;
+import checker.ExportType;
 import data.TimeSheet;
 import i18n.ResourceHandler;
 import io.FileController;
-import io.IGenerator;
-import io.LatexGenerator;
+import main.request.BatchRequest;
 import main.request.RequestType;
+import main.request.ServerRequest;
 import main.request.Request;
 import main.request.GenerateRequest;
-import parser.ParseException;
-import parser.Parser;
+import service.TimeSheetResult;
+import service.TimeSheetService;
 import ui.UserInterface;
 import updater.Updater;
 
 import javax.swing.*;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * Main class of the application containing the main method as entry point for
@@ -26,6 +32,11 @@ import java.util.Optional;
  */
 public class Main {
 
+	/**
+	 * Output file path to write the generated time sheet to the standard output
+	 */
+	private static final String STANDARD_OUTPUT = "-";
+
 	/**
 	 * Main entry point for the application
 	 * 
@@ -70,6 +81,18 @@ public class Main {
 			return;
 		}
 
+		// If requested: Generate all time sheets of the batch and return
+		if (requestType == RequestType.BATCH && request instanceof BatchRequest batchRequest) {
+			generateBatch(batchRequest);
+			return;
+		}
+
+		// If requested: Serve time sheets over HTTP until the process is terminated
+		if (requestType == RequestType.SERVER && request instanceof ServerRequest serverRequest) {
+			runServer(serverRequest);
+			return;
+		}
+
 		// Check if the user wants to not generate vacation entries.
 		// Only relevant if request is generate request, and in that case it will be
 		// set.
@@ -80,122 +103,102 @@ public class Main {
 
 		// Get content of input files
 		String global;
-		String month;
 		try {
 			global = FileController.readFileToString(userInput.getFile(UserInputFile.JSON_GLOBAL));
-			month = FileController.readFileToString(userInput.getFile(UserInputFile.JSON_MONTH));
 		} catch (IOException e) {
 			System.out.println(e.getMessage());
 			System.exit(1);
 			return;
 		}
 
-		// Initialize time sheet
-		TimeSheet timeSheet;
-		try {
-			timeSheet = Parser.parseTimeSheetJson(global, month);
-		} catch (ParseException e) {
+		// Parse and check the time sheet, the month file is parsed while it is read
+		TimeSheetService service;
+		TimeSheetResult result;
+		try (InputStream month = new FileInputStream(userInput.getFile(UserInputFile.JSON_MONTH))) {
+			service = new TimeSheetService();
+			result = service.validate(global, month, ExportType.EXPORT_LATEX);
+		} catch (IOException e) {
 			System.out.println(e.getMessage());
 			System.exit(1);
 			return;
 		}
 
-		// Check time sheet
-		IChecker checker = new MiLoGChecker(timeSheet, ExportType.EXPORT_LATEX);
-		CheckerReturn checkerReturn;
-		try {
-			checkerReturn = checker.check();
-		} catch (CheckerException e) { // exception does not mean that the time sheet is invalid, but that the process
-			// of checking failed
-			System.out.println(e.getMessage());
+		switch (result.getStatus()) {
+		case FAILED -> {
+			// failure does not mean that the time sheet is invalid, but that the process
+			// of parsing or checking failed
+			System.out.println(result.getFailure().orElse(""));
 			System.exit(1);
-			return;
 		}
 		// Print all errors in case the time sheet is invalid
-		if (checkerReturn == CheckerReturn.INVALID) {
-			handleInvalidTimesheet(checker, userInput);
+		case INVALID -> handleInvalidTimesheet(result.getErrorMessages(), userInput);
+		// Write the output file while it is rendered
+		case VALID -> {
+			try {
+				writeLatex(service, result.getTimeSheet().orElseThrow(), excludeVacationEntries, userInput.getFile(UserInputFile.OUTPUT));
+			} catch (IOException e) {
+				System.out.println(e.getMessage());
+				System.exit(1);
+			}
+		}
+		}
+	}
+
+	private static void writeLatex(TimeSheetService service, TimeSheet timeSheet, boolean excludeVacationEntries, File output) throws IOException {
+		if (output.getPath().equals(STANDARD_OUTPUT)) {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+			service.writeLatex(timeSheet, excludeVacationEntries, writer);
+			writer.flush();
 			return;
 		}
 
-		// Generate and save output file
-		ClassLoader classLoader = Main.class.getClassLoader();
+		FileController.saveTextToFile(output, writer -> service.writeLatex(timeSheet, excludeVacationEntries, writer));
+	}
+
+	private static void generateBatch(BatchRequest batchRequest) {
+		List<BatchGenerator.BatchResult> results;
 		try {
-			String latexTemplate = FileController.readInputStreamToString(classLoader.getResourceAsStream("MiLoG_Template.tex"));
-			IGenerator generator = new LatexGenerator(timeSheet, latexTemplate, excludeVacationEntries);
-			FileController.saveStringToFile(generator.generate(), userInput.getFile(UserInputFile.OUTPUT));
+			results = new BatchGenerator(batchRequest).run();
 		} catch (IOException e) {
 			System.out.println(e.getMessage());
 			System.exit(1);
+			return;
 		}
-	}
-
-	private static void handleInvalidTimesheet(IChecker checker, UserInput userInput) {
-		for (CheckerError error : checker.getErrors()) {
-			System.out.println(error.getErrorMessage());
-		}
-
-		if (userInput.isGui()) {
-			StringBuilder errorList = new StringBuilder();
-			for (CheckerError error : checker.getErrors()) {
-				errorList.append(error.getErrorMessage()).append(System.lineSeparator());
-			}
 
-			JOptionPane.showMessageDialog(null, errorList.toString(), ResourceHandler.getMessage("gui.errorListWindowTitle"), JOptionPane.ERROR_MESSAGE);
+		System.out.print(BatchGenerator.summarize(results));
+		if (!results.stream().allMatch(BatchGenerator.BatchResult::isSuccess)) {
+			System.exit(1);
 		}
 	}
 
-	/**
-	 * Addendum to the timesheet generator. This method only validated the contents
-	 * of a given timesheet file. If the given file, for any reason, is not a valid
-	 * timesheet, this method returns an optional containing the error message. If
-	 * it is, this method will return an empty optional.
-	 * 
-	 * @param globalFile The global.json file.
-	 * @param monthFile  The month.json file.
-	 * @param exportType The type of file that is being exported to, as they have
-	 *                   slight differences.
-	 * @return An optional of the error message.
-	 */
-	public static Optional<String> validateTimesheet(File globalFile, File monthFile, ExportType exportType) {
-		if (globalFile == null || monthFile == null)
-			return Optional.of("The global or month file were null. Try saving.");
-		String globalStr;
-		String monthStr;
+	private static void runServer(ServerRequest serverRequest) {
+		GenerationServer server;
 		try {
-			globalStr = FileController.readFileToString(globalFile);
-			monthStr = FileController.readFileToString(monthFile);
+			server = new GenerationServer(serverRequest.getPort());
 		} catch (IOException e) {
-			return Optional.of(e.getMessage());
+			System.out.println(e.getMessage());
+			System.exit(1);
+			return;
 		}
 
-		// Validation code from above.
+		Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+		server.start();
+		System.out.println(ResourceHandler.getMessage("command.output.server.started", server.getPort()));
+	}
 
-		// Initialize time sheet
-		TimeSheet timeSheet;
-		try {
-			timeSheet = Parser.parseTimeSheetJson(globalStr, monthStr);
-		} catch (ParseException e) {
-			return Optional.of(e.getMessage());
+	private static void handleInvalidTimesheet(List<String> errorMessages, UserInput userInput) {
+		for (String errorMessage : errorMessages) {
+			System.out.println(errorMessage);
 		}
 
-		// Check time sheet
-		IChecker checker = new MiLoGChecker(timeSheet, exportType);
-		CheckerReturn checkerReturn;
-		try {
-			checkerReturn = checker.check();
-		} catch (CheckerException e) {
-			return Optional.of(e.getMessage());
-		}
-
-		if (checkerReturn == CheckerReturn.INVALID) {
+		if (userInput.isGui()) {
 			StringBuilder errorList = new StringBuilder();
-			for (CheckerError error : checker.getErrors()) {
-				errorList.append(error.getErrorMessage()).append(System.lineSeparator());
+			for (String errorMessage : errorMessages) {
+				errorList.append(errorMessage).append(System.lineSeparator());
 			}
-			return Optional.of(errorList.toString());
-		}
 
-		return Optional.empty();
+			JOptionPane.showMessageDialog(null, errorList.toString(), ResourceHandler.getMessage("gui.errorListWindowTitle"), JOptionPane.ERROR_MESSAGE);
+		}
 	}
 
 }
@@ -0,0 +1,82 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latency and throughput of the endpoints of a
+ * {@link GenerationServer}. Recording only updates lock-free counters, so
+ * concurrent requests do not contend on the metrics.
+ */
+class ServerMetrics {
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	private final long startNanos = System.nanoTime();
+	private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+	/**
+	 * Records a handled request.
+	 *
+	 * @param endpoint      - the path of the endpoint that handled the request.
+	 * @param status        - the HTTP status code of the response.
+	 * @param durationNanos - the time spent on the request in nanoseconds.
+	 */
+	void record(String endpoint, int status, long durationNanos) {
+		endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics()).record(status, durationNanos);
+	}
+
+	/**
+	 * Creates a snapshot of the metrics. Per endpoint, it contains the number of
+	 * requests and of responses with a client or server error status, the mean and
+	 * maximum latency and the throughput since the metrics were created.
+	 *
+	 * @return The snapshot as json.
+	 */
+	ObjectNode toJson() {
+		Duration uptime = Duration.ofNanos(System.nanoTime() - startNanos);
+		double uptimeSeconds = Math.max(uptime.toNanos() / 1_000_000_000.0, Double.MIN_VALUE);
+
+		ObjectNode json = JsonNodeFactory.instance.objectNode();
+		json.put("uptimeMillis", uptime.toMillis());
+		ObjectNode endpointsJson = json.putObject("endpoints");
+		endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(endpoint -> {
+			EndpointMetrics metrics = endpoint.getValue();
+			long requests = metrics.requests.sum();
+			ObjectNode endpointJson = endpointsJson.putObject(endpoint.getKey());
+			endpointJson.put("requests", requests);
+			endpointJson.put("clientErrors", metrics.clientErrors.sum());
+			endpointJson.put("serverErrors", metrics.serverErrors.sum());
+			endpointJson.put("meanLatencyMillis", requests == 0 ? 0 : metrics.totalNanos.sum() / NANOS_PER_MILLI / requests);
+			endpointJson.put("maxLatencyMillis", metrics.maxNanos.get() / NANOS_PER_MILLI);
+			endpointJson.put("requestsPerSecond", requests / uptimeSeconds);
+		});
+		return json;
+	}
+
+	private static class EndpointMetrics {
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder clientErrors = new LongAdder();
+		private final LongAdder serverErrors = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private void record(int status, long durationNanos) {
+			requests.increment();
+			if (status >= 500) {
+				serverErrors.increment();
+			} else if (status >= 400) {
+				clientErrors.increment();
+			}
+			totalNanos.add(durationNanos);
+			maxNanos.accumulateAndGet(durationNanos, Math::max);
+		}
+	}
+}
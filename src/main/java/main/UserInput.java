@@ -1,10 +1,13 @@
 /* Licensed under MIT 2023-2025. */
 package main;
 
+import checker.ExportType;
 import i18n.ResourceHandler;
+import main.request.BatchRequest;
 import main.request.GenerateRequest;
 import main.request.HelpRequest;
 import main.request.Request;
+import main.request.ServerRequest;
 import main.request.VersionRequest;
 import org.apache.commons.cli.*;
 import org.apache.commons.io.FilenameUtils;
@@ -54,12 +57,80 @@ public class UserInput {
 			return new VersionRequest();
 		}
 
+		boolean excludeVacationEntries = commandLine.hasOption(UserInputOption.NO_VACATION_ENTRIES.getOption().getOpt());
+
+		// "server" is mutually exclusive with "gui", "file" and "batch"
+		if (commandLine.hasOption(UserInputOption.SERVER.getOption().getOpt())) {
+			if (commandLine.hasOption(UserInputOption.GUI.getOption().getOpt()) || commandLine.hasOption(UserInputOption.FILE.getOption().getOpt())
+					|| commandLine.hasOption(UserInputOption.BATCH.getOption().getOpt())) {
+				throw new ParseException(ResourceHandler.getMessage("error.userinput.mutuallyExclusiveOptionsServer"));
+			}
+			return new ServerRequest(parsePort());
+		}
+
+		// "batch" is mutually exclusive with "gui" and "file"
+		if (commandLine.hasOption(UserInputOption.BATCH.getOption().getOpt())) {
+			if (commandLine.hasOption(UserInputOption.GUI.getOption().getOpt()) || commandLine.hasOption(UserInputOption.FILE.getOption().getOpt())) {
+				throw new ParseException(ResourceHandler.getMessage("error.userinput.mutuallyExclusiveOptionsBatch"));
+			}
+			String[] batchArgs = commandLine.getOptionValues(UserInputOption.BATCH.getOption().getOpt());
+			ExportType exportType = commandLine.hasOption(UserInputOption.PDF.getOption().getOpt()) ? ExportType.EXPORT_PDF : ExportType.EXPORT_LATEX;
+			boolean flattenPdf = !commandLine.hasOption(UserInputOption.KEEP_FORM.getOption().getOpt());
+			return new BatchRequest(new File(batchArgs[0]), new File(batchArgs[1]), new File(batchArgs[2]), parseThreads(), excludeVacationEntries, exportType,
+					flattenPdf);
+		}
+
 		// "gui" and "file" options are mutually exclusive
 		if (commandLine.hasOption(UserInputOption.GUI.getOption().getOpt()) && commandLine.hasOption(UserInputOption.FILE.getOption().getOpt())) {
 			throw new ParseException(ResourceHandler.getMessage("error.userinput.mutuallyExclusiveOptionsGuiFile"));
 		} else {
-			return new GenerateRequest(commandLine.hasOption(UserInputOption.NO_VACATION_ENTRIES.getOption().getOpt()));
+			return new GenerateRequest(excludeVacationEntries);
+		}
+	}
+
+	/**
+	 * Parse the number of threads used in batch mode. If the option is not given,
+	 * one thread per available processor is used.
+	 *
+	 * @return The number of threads
+	 * @throws ParseException Thrown in case the option value is not a positive
+	 *                        number
+	 */
+	private int parseThreads() throws ParseException {
+		String threads = commandLine.getOptionValue(UserInputOption.THREADS.getOption().getOpt());
+		if (threads == null) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+
+		try {
+			int parsedThreads = Integer.parseInt(threads);
+			if (parsedThreads > 0) {
+				return parsedThreads;
+			}
+		} catch (NumberFormatException e) {
+			// handled below
+		}
+		throw new ParseException(ResourceHandler.getMessage("error.userinput.invalidThreadCount", threads));
+	}
+
+	/**
+	 * Parse the port the server listens on. Port 0 lets the system choose a free
+	 * port.
+	 *
+	 * @return The port
+	 * @throws ParseException Thrown in case the option value is not a valid port
+	 */
+	private int parsePort() throws ParseException {
+		String port = commandLine.getOptionValue(UserInputOption.SERVER.getOption().getOpt());
+		try {
+			int parsedPort = Integer.parseInt(port);
+			if (parsedPort >= 0 && parsedPort <= 0xFFFF) {
+				return parsedPort;
+			}
+		} catch (NumberFormatException e) {
+			// handled below
 		}
+		throw new ParseException(ResourceHandler.getMessage("error.userinput.invalidPort", port));
 	}
 
 	/**
@@ -31,7 +31,30 @@ public enum UserInputOption {
 	 * Specify the files in the arguments of this command
 	 */
 	FILE(Option.builder("f").longOpt("file").desc(ResourceHandler.getMessage("command.input.file.description")).numberOfArgs(3)
-			.argName(ResourceHandler.getMessage("command.input.file.arguments")).build());
+			.argName(ResourceHandler.getMessage("command.input.file.arguments")).build()),
+	/**
+	 * Generate one output file per month file of a directory or manifest
+	 */
+	BATCH(Option.builder("b").longOpt("batch").desc(ResourceHandler.getMessage("command.input.batch.description")).numberOfArgs(3)
+			.argName(ResourceHandler.getMessage("command.input.batch.arguments")).build()),
+	/**
+	 * Number of time sheets generated in parallel in batch mode
+	 */
+	THREADS(Option.builder("t").longOpt("threads").desc(ResourceHandler.getMessage("command.input.threads.description")).hasArg()
+			.argName(ResourceHandler.getMessage("command.input.threads.arguments")).build()),
+	/**
+	 * Generate filled PDF forms instead of LaTeX files in batch mode
+	 */
+	PDF(Option.builder("p").longOpt("pdf").desc(ResourceHandler.getMessage("command.input.pdf.description")).hasArg(false).build()),
+	/**
+	 * Keep the form fields of generated PDF files editable
+	 */
+	KEEP_FORM(Option.builder("k").longOpt("keep-form").desc(ResourceHandler.getMessage("command.input.keep-form.description")).hasArg(false).build()),
+	/**
+	 * Serve the generation of time sheets over HTTP on the local machine
+	 */
+	SERVER(Option.builder("s").longOpt("server").desc(ResourceHandler.getMessage("command.input.server.description")).hasArg()
+			.argName(ResourceHandler.getMessage("command.input.server.arguments")).build());
 
 	private final Option option;
 
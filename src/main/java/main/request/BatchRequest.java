@@ -0,0 +1,55 @@
+/* Licensed under MIT 2025. */
+package main.request;
+
+import checker.ExportType;
+import lombok.Getter;
+
+import java.io.File;
+
+/**
+ * A batch generation request. The Request to be returned if the user has
+ * requested to generate many time sheets at once. All month files share the
+ * same global file, and one output file is written per month file into the
+ * output directory.<br/>
+ * The {@code getType()} method will return {@link RequestType#BATCH}.
+ */
+@Getter
+public class BatchRequest extends Request {
+	private final File globalFile;
+	private final File monthSource;
+	private final File outputDirectory;
+	private final int threads;
+	private final boolean excludeVacationEntries;
+	private final ExportType exportType;
+	private final boolean flattenPdf;
+
+	/**
+	 * Constructs a new batch request.
+	 *
+	 * @param globalFile             The global.json file shared by all time sheets.
+	 * @param monthSource            Either a directory containing month.json files
+	 *                               or a manifest file listing one month.json file
+	 *                               per line.
+	 * @param outputDirectory        The directory the generated files are written
+	 *                               to.
+	 * @param threads                The number of time sheets generated in
+	 *                               parallel.
+	 * @param excludeVacationEntries If vacation entries should not be visible in
+	 *                               the entry table.
+	 * @param exportType             Whether LaTeX files or filled PDF forms are
+	 *                               generated.
+	 * @param flattenPdf             If the form fields of generated PDF files are
+	 *                               flattened, so they cannot be edited anymore.
+	 */
+	public BatchRequest(File globalFile, File monthSource, File outputDirectory, int threads, boolean excludeVacationEntries, ExportType exportType,
+			boolean flattenPdf) {
+		super(RequestType.BATCH);
+		this.globalFile = globalFile;
+		this.monthSource = monthSource;
+		this.outputDirectory = outputDirectory;
+		this.threads = threads;
+		this.excludeVacationEntries = excludeVacationEntries;
+		this.exportType = exportType;
+		this.flattenPdf = flattenPdf;
+	}
+}
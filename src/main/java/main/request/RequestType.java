@@ -6,5 +6,5 @@ package main.request;
  * arguments
  */
 public enum RequestType {
-	HELP, VERSION, GENERATE
+	HELP, VERSION, GENERATE, BATCH, SERVER
 }
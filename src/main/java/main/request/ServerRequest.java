@@ -0,0 +1,14 @@
+/* Licensed under MIT 2025. */
+package main.request;
+
+import lombok.Getter;
+
+@Getter
+public class ServerRequest extends Request {
+	private final int port;
+
+	public ServerRequest(int port) {
+		super(RequestType.SERVER);
+		this.port = port;
+	}
+}
@@ -4,7 +4,9 @@ package parser;
 import data.*;
 import parser.json.JsonGlobalParser;
 import parser.json.JsonMonthParser;
+import parser.json.StreamingJsonMonthParser;
 
+import java.io.InputStream;
 import java.time.YearMonth;
 
 /**
@@ -27,13 +29,27 @@ public class Parser {
 	 * @throws ParseException if an error occurs while parsing the json strings.
 	 */
 	public static TimeSheet parseTimeSheetJson(String globalJson, String monthJson) throws ParseException {
-		IGlobalParser globalParser = new JsonGlobalParser(globalJson);
+		return parseTimeSheet(new JsonGlobalParser(globalJson), new JsonMonthParser(monthJson));
+	}
 
+	/**
+	 * Returns a new {@link TimeSheet} constructed out of data coming from a json
+	 * string and a json stream. The month data is parsed while reading the stream,
+	 * which is not closed afterwards.
+	 * 
+	 * @param globalJson - json to get global data from.
+	 * @param monthJson  - stream of the json to get month data from.
+	 * @return A new {@link TimeSheet} instances.
+	 * @throws ParseException if an error occurs while reading or parsing the json.
+	 */
+	public static TimeSheet parseTimeSheetJson(String globalJson, InputStream monthJson) throws ParseException {
+		return parseTimeSheet(new JsonGlobalParser(globalJson), new StreamingJsonMonthParser(monthJson));
+	}
+
+	private static TimeSheet parseTimeSheet(IGlobalParser globalParser, IMonthParser monthParser) throws ParseException {
 		Employee employee = globalParser.getEmployee();
 		Profession profession = globalParser.getProfession();
 
-		IMonthParser monthParser = new JsonMonthParser(monthJson);
-
 		YearMonth yearMonth = monthParser.getYearMonth();
 		Entry[] entries = monthParser.getEntries();
 		TimeSpan succTransfer = monthParser.getSuccTransfer();
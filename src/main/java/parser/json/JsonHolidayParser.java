@@ -3,11 +3,6 @@ package parser.json;
 
 import checker.holiday.Holiday;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import parser.IHolidayParser;
 import parser.ParseException;
 
@@ -36,9 +31,7 @@ public class JsonHolidayParser implements IHolidayParser {
 
 	private HolidayMapJson parseJson() throws JsonProcessingException {
 		if (holidayMap == null) {
-			ObjectMapper mapper = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module()).addModule(new JavaTimeModule())
-					.build();
-			holidayMap = mapper.readValue(json, HolidayMapJson.class);
+			holidayMap = JsonMappers.getDataReader(HolidayMapJson.class).readValue(json);
 		}
 
 		return holidayMap;
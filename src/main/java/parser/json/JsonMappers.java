@@ -0,0 +1,86 @@
+/* Licensed under MIT 2025. */
+package parser.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of shared Jackson mappers. Building a mapper and introspecting the
+ * mapped types is far more expensive than reading a single file, so every
+ * {@link ObjectReader} and {@link ObjectWriter} is created once per type and
+ * reused afterwards. Readers and writers are immutable and thus safe to share
+ * between threads.<br/>
+ * <br/>
+ * There are two families of mappers: The data mapper reads the json formats of
+ * the command line (global, month and holiday files) with support for
+ * {@code java.time} and {@link java.util.Optional}, the UI mapper reads and
+ * writes the plain settings and month files of the graphical user interface.
+ */
+public final class JsonMappers {
+
+	private static final ObjectMapper DATA_MAPPER = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module())
+			.addModule(new JavaTimeModule()).enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+	private static final ObjectMapper UI_MAPPER = new ObjectMapper();
+
+	private static final Map<Class<?>, ObjectReader> DATA_READERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectReader> UI_READERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectReader> LENIENT_UI_READERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectWriter> UI_WRITERS = new ConcurrentHashMap<>();
+
+	private JsonMappers() {
+	}
+
+	/**
+	 * Gets the shared reader of a command line json type. Unknown properties are
+	 * rejected.
+	 *
+	 * @param type - to read.
+	 * @return The reader of the type.
+	 */
+	public static ObjectReader getDataReader(Class<?> type) {
+		return DATA_READERS.computeIfAbsent(type, DATA_MAPPER::readerFor);
+	}
+
+	/**
+	 * Gets the shared reader of a user interface json type. Unknown properties are
+	 * rejected.
+	 *
+	 * @param type - to read.
+	 * @return The reader of the type.
+	 */
+	public static ObjectReader getUiReader(Class<?> type) {
+		return UI_READERS.computeIfAbsent(type, UI_MAPPER::readerFor);
+	}
+
+	/**
+	 * Gets the shared reader of a user interface json type that ignores unknown
+	 * properties, e.g. settings written by a newer version.
+	 *
+	 * @param type - to read.
+	 * @return The reader of the type.
+	 */
+	public static ObjectReader getLenientUiReader(Class<?> type) {
+		return LENIENT_UI_READERS.computeIfAbsent(type, key -> UI_MAPPER.readerFor(key).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+	}
+
+	/**
+	 * Gets the shared writer of a user interface json type. The output is
+	 * indented.
+	 *
+	 * @param type - to write.
+	 * @return The writer of the type.
+	 */
+	public static ObjectWriter getUiWriter(Class<?> type) {
+		return UI_WRITERS.computeIfAbsent(type, key -> UI_MAPPER.writerFor(key).with(SerializationFeature.INDENT_OUTPUT));
+	}
+}
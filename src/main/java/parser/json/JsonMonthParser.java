@@ -2,12 +2,6 @@
 package parser.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import data.Entry;
 import data.TimeSpan;
 import parser.IMonthParser;
@@ -38,10 +32,7 @@ public class JsonMonthParser implements IMonthParser {
 
 	private MonthJson parse() throws JsonProcessingException {
 		if (monthJson == null) {
-			ObjectMapper mapper = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module()).addModule(new JavaTimeModule())
-					.build();
-			mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
-			monthJson = mapper.readValue(json, MonthJson.class);
+			monthJson = JsonMappers.getDataReader(MonthJson.class).readValue(json);
 		}
 
 		return monthJson;
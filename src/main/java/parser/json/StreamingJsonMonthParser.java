@@ -0,0 +1,248 @@
+/* Licensed under MIT 2025. */
+package parser.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import data.Entry;
+import data.TimeSpan;
+import parser.IMonthParser;
+import parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A StreamingJsonMonthParser provides the functionality to parse the elements
+ * specified by {@link IMonthParser} from a json file or stream. It accepts the
+ * same format as {@link JsonMonthParser}, but reads the tokens directly from
+ * the input and creates each {@link Entry} as soon as it has been read, so
+ * neither the whole json string nor an intermediate object graph is held in
+ * memory. Entries are only buffered if the year and month follow after them.
+ */
+public class StreamingJsonMonthParser implements IMonthParser {
+
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder().disable(StreamReadFeature.AUTO_CLOSE_SOURCE).build();
+
+	private final Path path;
+	private final InputStream inputStream;
+
+	private ParsedMonth parsedMonth; // caching
+
+	/**
+	 * Constructs a new {@link StreamingJsonMonthParser} instance that reads a
+	 * file. The file is opened on first access and closed after parsing.
+	 *
+	 * @param path - of the file to parse the data from.
+	 */
+	public StreamingJsonMonthParser(Path path) {
+		this.path = path;
+		this.inputStream = null;
+	}
+
+	/**
+	 * Constructs a new {@link StreamingJsonMonthParser} instance that reads a
+	 * stream. The stream is read on first access and not closed by the parser.
+	 *
+	 * @param inputStream - to parse the data from.
+	 */
+	public StreamingJsonMonthParser(InputStream inputStream) {
+		this.path = null;
+		this.inputStream = inputStream;
+	}
+
+	private ParsedMonth parse() throws ParseException {
+		if (parsedMonth == null) {
+			try {
+				if (path != null) {
+					try (InputStream fileStream = Files.newInputStream(path)) {
+						parsedMonth = readMonth(fileStream);
+					}
+				} else {
+					parsedMonth = readMonth(inputStream);
+				}
+			} catch (IOException | IllegalArgumentException | DateTimeException e) {
+				throw new ParseException(e.getMessage());
+			}
+		}
+
+		return parsedMonth;
+	}
+
+	@Override
+	public YearMonth getYearMonth() throws ParseException {
+		return parse().yearMonth();
+	}
+
+	@Override
+	public Entry[] getEntries() throws ParseException {
+		return parse().entries().clone();
+	}
+
+	@Override
+	public TimeSpan getSuccTransfer() throws ParseException {
+		return parse().succTransfer();
+	}
+
+	@Override
+	public TimeSpan getPredTransfer() throws ParseException {
+		return parse().predTransfer();
+	}
+
+	private static ParsedMonth readMonth(InputStream input) throws IOException {
+		try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Expected a json object for the month");
+			}
+
+			Integer year = null;
+			Integer month = null;
+			TimeSpan predTransfer = new TimeSpan(0, 0); // default
+			TimeSpan succTransfer = new TimeSpan(0, 0); // default
+			List<Entry> entries = null;
+			List<EntryFields> pendingEntries = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				parser.nextToken();
+				switch (name) {
+				case "$schema" -> parser.skipChildren();
+				case "year" -> year = readInt(parser, name);
+				case "month" -> month = readInt(parser, name);
+				case "pred_transfer" -> predTransfer = readTimeSpan(parser, name);
+				case "succ_transfer" -> succTransfer = readTimeSpan(parser, name);
+				case "entries" -> {
+					if (parser.currentToken() != JsonToken.START_ARRAY) {
+						throw new JsonParseException(parser, "Expected an array for property 'entries'");
+					}
+					YearMonth yearMonth = year != null && month != null ? YearMonth.of(year, month) : null;
+					entries = new ArrayList<>();
+					pendingEntries = new ArrayList<>();
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						EntryFields fields = readEntry(parser);
+						if (yearMonth != null) {
+							entries.add(fields.toEntry(yearMonth));
+						} else {
+							pendingEntries.add(fields);
+						}
+					}
+				}
+				default -> throw new JsonParseException(parser, "Unrecognized field '%s'".formatted(name));
+				}
+			}
+
+			requireProperty(parser, year, "year");
+			requireProperty(parser, month, "month");
+			requireProperty(parser, entries, "entries");
+
+			YearMonth yearMonth = YearMonth.of(year, month);
+			for (EntryFields fields : pendingEntries) {
+				entries.add(fields.toEntry(yearMonth));
+			}
+			return new ParsedMonth(yearMonth, entries.toArray(new Entry[0]), predTransfer, succTransfer);
+		}
+	}
+
+	private static EntryFields readEntry(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			throw new JsonParseException(parser, "Expected a json object for an entry");
+		}
+
+		String action = null;
+		Integer day = null;
+		TimeSpan start = null;
+		TimeSpan end = null;
+		TimeSpan pause = new TimeSpan(0, 0); // default
+		boolean vacation = false; // default
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.currentName();
+			parser.nextToken();
+			switch (name) {
+			case "action" -> action = readString(parser, name);
+			case "day" -> day = readInt(parser, name);
+			case "start" -> start = readTimeSpan(parser, name);
+			case "end" -> end = readTimeSpan(parser, name);
+			case "pause" -> pause = readTimeSpan(parser, name);
+			case "vacation" -> vacation = readBoolean(parser, name);
+			default -> throw new JsonParseException(parser, "Unrecognized field '%s'".formatted(name));
+			}
+		}
+
+		requireProperty(parser, action, "action");
+		requireProperty(parser, day, "day");
+		requireProperty(parser, start, "start");
+		requireProperty(parser, end, "end");
+		return new EntryFields(action, day, start, end, pause, vacation);
+	}
+
+	private static int readInt(JsonParser parser, String name) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getIntValue();
+		}
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			try {
+				return Integer.parseInt(parser.getText().trim());
+			} catch (NumberFormatException e) {
+				// reported below
+			}
+		}
+		throw new JsonParseException(parser, "Expected an integer for property '%s'".formatted(name));
+	}
+
+	private static String readString(JsonParser parser, String name) throws IOException {
+		if (!parser.currentToken().isScalarValue() || parser.currentToken() == JsonToken.VALUE_NULL) {
+			throw new JsonParseException(parser, "Expected a string for property '%s'".formatted(name));
+		}
+		return parser.getValueAsString();
+	}
+
+	private static TimeSpan readTimeSpan(JsonParser parser, String name) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			// parse from the buffer of the parser instead of creating a string
+			int offset = parser.getTextOffset();
+			return TimeSpan.parse(CharBuffer.wrap(parser.getTextCharacters()), offset, offset + parser.getTextLength());
+		}
+		return TimeSpan.parse(readString(parser, name));
+	}
+
+	private static boolean readBoolean(JsonParser parser, String name) throws IOException {
+		if (parser.currentToken().isBoolean()) {
+			return parser.getBooleanValue();
+		}
+		if (parser.currentToken() == JsonToken.VALUE_STRING && (parser.getText().equals("true") || parser.getText().equals("false"))) {
+			return Boolean.parseBoolean(parser.getText());
+		}
+		throw new JsonParseException(parser, "Expected a boolean for property '%s'".formatted(name));
+	}
+
+	private static void requireProperty(JsonParser parser, Object value, String name) throws JsonParseException {
+		if (value == null) {
+			throw new JsonParseException(parser, "Missing required property '%s'".formatted(name));
+		}
+	}
+
+	/**
+	 * The properties of an entry that has been read before the year and month of
+	 * the time sheet were known.
+	 */
+	private record EntryFields(String action, int day, TimeSpan start, TimeSpan end, TimeSpan pause, boolean vacation) {
+
+		private Entry toEntry(YearMonth yearMonth) {
+			return new Entry(action, LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), day), start, end, pause, vacation);
+		}
+	}
+
+	private record ParsedMonth(YearMonth yearMonth, Entry[] entries, TimeSpan predTransfer, TimeSpan succTransfer) {
+	}
+}
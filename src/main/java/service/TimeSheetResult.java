@@ -0,0 +1,126 @@
+/* Licensed under MIT 2025. */
+package service;
+
+import checker.CheckerError;
+import data.TimeSheet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The result of a {@link TimeSheetService} call. Depending on the
+ * {@link Status}, it holds the parsed {@link TimeSheet}, the
+ * {@link CheckerError errors} found by the checker, the rendered output or the
+ * reason why the time sheet could not be processed at all.
+ */
+public final class TimeSheetResult {
+
+	private final Status status;
+	private final TimeSheet timeSheet;
+	private final List<CheckerError> errors;
+	private final String output;
+	private final String failure;
+
+	private TimeSheetResult(Status status, TimeSheet timeSheet, Collection<CheckerError> errors, String output, String failure) {
+		this.status = status;
+		this.timeSheet = timeSheet;
+		this.errors = List.copyOf(errors);
+		this.output = output;
+		this.failure = failure;
+	}
+
+	static TimeSheetResult failed(String failure) {
+		return new TimeSheetResult(Status.FAILED, null, List.of(), null, String.valueOf(failure));
+	}
+
+	static TimeSheetResult invalid(TimeSheet timeSheet, Collection<CheckerError> errors) {
+		return new TimeSheetResult(Status.INVALID, timeSheet, errors, null, null);
+	}
+
+	static TimeSheetResult valid(TimeSheet timeSheet, String output) {
+		return new TimeSheetResult(Status.VALID, timeSheet, List.of(), output, null);
+	}
+
+	/**
+	 * Gets the status of the result.
+	 *
+	 * @return The status.
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Checks whether the time sheet was parsed and passed the checker.
+	 *
+	 * @return True if the status is {@link Status#VALID}, false otherwise.
+	 */
+	public boolean isValid() {
+		return status == Status.VALID;
+	}
+
+	/**
+	 * Gets the parsed time sheet.
+	 *
+	 * @return The time sheet, empty if it could not be parsed.
+	 */
+	public Optional<TimeSheet> getTimeSheet() {
+		return Optional.ofNullable(timeSheet);
+	}
+
+	/**
+	 * Gets the errors found by the checker.
+	 *
+	 * @return An unmodifiable list of the errors, empty unless the status is
+	 *         {@link Status#INVALID}.
+	 */
+	public List<CheckerError> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Gets the messages of the errors found by the checker.
+	 *
+	 * @return The error messages, in the order of {@link #getErrors()}.
+	 */
+	public List<String> getErrorMessages() {
+		return errors.stream().map(CheckerError::getErrorMessage).toList();
+	}
+
+	/**
+	 * Gets the rendered document.
+	 *
+	 * @return The document, empty if nothing was rendered.
+	 */
+	public Optional<String> getOutput() {
+		return Optional.ofNullable(output);
+	}
+
+	/**
+	 * Gets the reason why the time sheet could not be processed.
+	 *
+	 * @return The message, empty unless the status is {@link Status#FAILED}.
+	 */
+	public Optional<String> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+
+	/**
+	 * The outcome of processing a time sheet.
+	 */
+	public enum Status {
+		/**
+		 * The input could not be parsed or the checking process itself failed.
+		 */
+		FAILED,
+		/**
+		 * The time sheet was parsed, but the checker found errors.
+		 */
+		INVALID,
+		/**
+		 * The time sheet was parsed and passed the checker.
+		 */
+		VALID
+	}
+}
@@ -0,0 +1,142 @@
+/* Licensed under MIT 2025. */
+package service;
+
+import checker.CheckerException;
+import checker.CheckerReturn;
+import checker.ExportType;
+import checker.IChecker;
+import checker.MiLoGChecker;
+import data.TimeSheet;
+import io.FileController;
+import io.IGenerator;
+import io.LatexGenerator;
+import parser.ParseException;
+import parser.Parser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+
+/**
+ * A TimeSheetService parses, checks and renders time sheets without printing
+ * anything or terminating the process, so it can be embedded in other
+ * applications. Every outcome, including invalid input, is returned as a
+ * {@link TimeSheetResult}.<br/>
+ * <br/>
+ * The LaTeX template is read once when the service is constructed. A service
+ * holds no other state, so a single instance can be shared by any number of
+ * threads.
+ */
+public class TimeSheetService {
+
+	private static final String LATEX_TEMPLATE_RESOURCE = "MiLoG_Template.tex";
+
+	private final String latexTemplate;
+
+	/**
+	 * Constructs a new {@link TimeSheetService} instance.
+	 *
+	 * @throws IOException if the LaTeX template cannot be read.
+	 */
+	public TimeSheetService() throws IOException {
+		InputStream templateStream = TimeSheetService.class.getClassLoader().getResourceAsStream(LATEX_TEMPLATE_RESOURCE);
+		if (templateStream == null) {
+			throw new FileNotFoundException(LATEX_TEMPLATE_RESOURCE);
+		}
+		this.latexTemplate = FileController.readInputStreamToString(templateStream);
+	}
+
+	/**
+	 * Parses and checks a time sheet.
+	 *
+	 * @param globalJson - json to get global data from.
+	 * @param monthJson  - stream of the json to get month data from, which is not
+	 *                   closed.
+	 * @param exportType - the export the time sheet is checked for.
+	 * @return The result, without output.
+	 */
+	public TimeSheetResult validate(String globalJson, InputStream monthJson, ExportType exportType) {
+		TimeSheet timeSheet;
+		try {
+			timeSheet = Parser.parseTimeSheetJson(globalJson, monthJson);
+		} catch (ParseException | IllegalArgumentException e) {
+			return TimeSheetResult.failed(e.getMessage());
+		}
+		return validate(timeSheet, exportType);
+	}
+
+	/**
+	 * Checks a time sheet.
+	 *
+	 * @param timeSheet  - to check.
+	 * @param exportType - the export the time sheet is checked for.
+	 * @return The result, without output.
+	 */
+	public TimeSheetResult validate(TimeSheet timeSheet, ExportType exportType) {
+		return check(timeSheet, exportType, null);
+	}
+
+	/**
+	 * Parses, checks and renders a time sheet as LaTeX.
+	 *
+	 * @param globalJson             - json to get global data from.
+	 * @param monthJson              - stream of the json to get month data from,
+	 *                               which is not closed.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the entry table.
+	 * @return The result, with the LaTeX code as output if the time sheet is
+	 *         valid.
+	 */
+	public TimeSheetResult generateLatex(String globalJson, InputStream monthJson, boolean excludeVacationEntries) {
+		TimeSheet timeSheet;
+		try {
+			timeSheet = Parser.parseTimeSheetJson(globalJson, monthJson);
+		} catch (ParseException | IllegalArgumentException e) {
+			return TimeSheetResult.failed(e.getMessage());
+		}
+		return generateLatex(timeSheet, excludeVacationEntries);
+	}
+
+	/**
+	 * Checks and renders a time sheet as LaTeX.
+	 *
+	 * @param timeSheet              - to render.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the entry table.
+	 * @return The result, with the LaTeX code as output if the time sheet is
+	 *         valid.
+	 */
+	public TimeSheetResult generateLatex(TimeSheet timeSheet, boolean excludeVacationEntries) {
+		return check(timeSheet, ExportType.EXPORT_LATEX, new LatexGenerator(timeSheet, latexTemplate, excludeVacationEntries));
+	}
+
+	/**
+	 * Renders a time sheet as LaTeX and writes it while it is rendered, without
+	 * building the whole document in memory. The time sheet is not checked, so it
+	 * should have been validated for {@link ExportType#EXPORT_LATEX} before.
+	 *
+	 * @param timeSheet              - to render.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the entry table.
+	 * @param output                 - the writer to write the LaTeX code to, which
+	 *                               is not closed.
+	 * @throws IOException if the LaTeX code cannot be written.
+	 */
+	public void writeLatex(TimeSheet timeSheet, boolean excludeVacationEntries, Writer output) throws IOException {
+		new LatexGenerator(timeSheet, latexTemplate, excludeVacationEntries).generate(output);
+	}
+
+	private static TimeSheetResult check(TimeSheet timeSheet, ExportType exportType, IGenerator generator) {
+		IChecker checker = new MiLoGChecker(timeSheet, exportType);
+		try {
+			if (checker.check() == CheckerReturn.INVALID) {
+				return TimeSheetResult.invalid(timeSheet, checker.getErrors());
+			}
+		} catch (CheckerException e) {
+			return TimeSheetResult.failed(e.getMessage());
+		}
+
+		return TimeSheetResult.valid(timeSheet, generator == null ? null : generator.generate());
+	}
+}
@@ -7,15 +7,18 @@ import ui.json.UISettings;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
 
 public class ActionBar extends JPanel {
 
 	private static final String HOURS_FORMAT = "Total Time: %s/%s          ";
+	private static final String ERRORS_FORMAT = "%d issue(s) found          ";
 
 	private final transient UserInterface parentUi;
 	private final transient JFrame parentFrame;
 
 	private final JLabel hoursWorkedLabel;
+	private final JLabel errorsLabel;
 	private final Font fontNormal;
 	private final Font fontBold;
 
@@ -70,8 +73,17 @@ public class ActionBar extends JPanel {
 		fontNormal = hoursWorkedLabel.getFont().deriveFont(18f);
 		fontBold = fontNormal.deriveFont(Font.BOLD);
 		hoursWorkedLabel.setFont(fontNormal);
-		this.add(hoursWorkedLabel, BorderLayout.EAST);
+
+		errorsLabel = new JLabel();
+		errorsLabel.setFont(hoursWorkedLabel.getFont().deriveFont(14f));
+		errorsLabel.setForeground(TextColors.ERROR.color());
+
+		JPanel statusPanel = new JPanel(new GridLayout(2, 1));
+		statusPanel.add(hoursWorkedLabel);
+		statusPanel.add(errorsLabel);
+		this.add(statusPanel, BorderLayout.EAST);
 		updateHours(new Time());
+		updateErrors(List.of());
 	}
 
 	private boolean hourMismatchCheck() {
@@ -161,8 +173,30 @@ public class ActionBar extends JPanel {
 		return successorHours;
 	}
 
+	/**
+	 * Shows the errors found in the current entries. The number of errors is
+	 * shown, and all error messages are listed in the tooltip.
+	 *
+	 * @param errorMessages The messages of all errors, empty if there are none.
+	 */
+	public void updateErrors(List<String> errorMessages) {
+		if (errorMessages.isEmpty()) {
+			errorsLabel.setText(" ");
+			errorsLabel.setToolTipText(null);
+			return;
+		}
+
+		StringBuilder toolTip = new StringBuilder("<html>");
+		for (String errorMessage : errorMessages) {
+			toolTip.append(errorMessage.replace("&", "&amp;").replace("<", "&lt;")).append("<br/>");
+		}
+		errorsLabel.setText(ERRORS_FORMAT.formatted(errorMessages.size()));
+		errorsLabel.setToolTipText(toolTip.append("</html>").toString());
+	}
+
 	public void reset() {
 		updateHours(new Time());
+		updateErrors(List.of());
 	}
 
 }
@@ -242,6 +242,7 @@ public class MonthlySettingsBar extends JPanel {
 			semesterTextFieldLabel.setText("/%d".formatted(year + 1));
 		}
 		this.parentUi.setHasUnsavedChanges(true);
+		this.parentUi.updateLiveErrors();
 	}
 
 }
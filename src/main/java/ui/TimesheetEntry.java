@@ -1,11 +1,16 @@
 /* Licensed under MIT 2024-2025. */
 package ui;
 
+import data.Entry;
+import data.TimeSpan;
 import lombok.Getter;
 import ui.json.Month;
 
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Optional;
 
 public class TimesheetEntry {
 
@@ -126,6 +131,25 @@ public class TimesheetEntry {
 		return entry;
 	}
 
+	/**
+	 * Converts this entry into an entry of a time sheet, so it can be checked.
+	 * Like in the month file, the break of a vacation entry is ignored.
+	 *
+	 * @param yearMonth The month the entry belongs to.
+	 * @return The converted entry, empty if the day or the times are invalid.
+	 */
+	public Optional<Entry> toCheckerEntry(YearMonth yearMonth) {
+		if (isEmpty())
+			return Optional.empty();
+		try {
+			TimeSpan breakTime = isVacation ? new TimeSpan(0, 0) : new TimeSpan(breakHour, breakMinutes);
+			return Optional.of(new Entry(activity, yearMonth.atDay(day), new TimeSpan(fromHour, fromMinute), new TimeSpan(toHour, toMinute), breakTime,
+					isVacation));
+		} catch (IllegalArgumentException | DateTimeException e) {
+			return Optional.empty();
+		}
+	}
+
 	public String getDayString() {
 		if (day == -1)
 			return "";
@@ -1,9 +1,14 @@
 /* Licensed under MIT 2024-2025. */
 package ui;
 
+import checker.CheckerError;
+import checker.CheckerException;
+import checker.IncrementalMiLoGChecker;
+import data.Entry;
 import lombok.Getter;
 import mail.MailInformation;
 import mail.MailtoLinkBuilder;
+import ui.export.PDFCompiler;
 import ui.fileexplorer.FileChooser;
 import ui.fileexplorer.FileChooserType;
 import ui.json.JSONHandler;
@@ -30,9 +35,12 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.DateTimeException;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.logging.Logger;
 
 public class UserInterface {
 
@@ -60,6 +68,11 @@ public class UserInterface {
 
 	private final Updater updater;
 
+	/** Checks the entries of the list while they are edited. */
+	private final IncrementalMiLoGChecker liveChecker = new IncrementalMiLoGChecker();
+	/** The month the entries of the live checker were converted for. */
+	private YearMonth liveCheckerMonth;
+
 	public UserInterface() {
 		initialize();
 		updater = new Updater(frame);
@@ -313,10 +326,6 @@ public class UserInterface {
 		return hasUnsavedChanges;
 	}
 
-	public File generateTempMonthFile() {
-		return JSONHandler.generateTemporaryJSONFile(monthSettingsBar, listModel);
-	}
-
 	public Time getPredTime() {
 		return monthSettingsBar.getPredTime();
 	}
@@ -345,6 +354,7 @@ public class UserInterface {
 		// Delete all content
 		currentOpenFile = null;
 		listModel.clear();
+		liveChecker.clear();
 		monthSettingsBar.reset();
 		buttonActionBar.reset();
 		setHasUnsavedChanges(false);
@@ -463,15 +473,17 @@ public class UserInterface {
 	public void addEntry(TimesheetEntry entry) {
 		if (entry.isNone())
 			return;
+		int index = listModel.getSize();
 		for (int i = 0; i < listModel.getSize(); i++) {
 			if (listModel.getElementAt(i).isLaterThan(entry)) {
-				listModel.insertElementAt(entry, i);
-				updateTotalTimeWorkedUI();
-				return;
+				index = i;
+				break;
 			}
 		}
-		// Add to end of list
-		listModel.addElement(entry);
+		listModel.insertElementAt(entry, index);
+		if (isLiveCheckerCurrent()) {
+			entry.toCheckerEntry(liveCheckerMonth).ifPresent(checkerEntry -> updateLiveChecker(checkerEntry, true));
+		}
 		updateTotalTimeWorkedUI();
 	}
 
@@ -493,6 +505,7 @@ public class UserInterface {
 		TimesheetEntry entry = listModel.getElementAt(selectedItemIndex);
 		DialogHelper.showEntryDialog(this, this.frame, "Edit Entry", entry);
 		listModel.removeElement(entry);
+		removeFromLiveChecker(entry);
 		itemList.setSelectedIndex(-1);
 		updateTotalTimeWorkedUI();
 	}
@@ -506,7 +519,7 @@ public class UserInterface {
 			return;
 
 		setHasUnsavedChanges(true);
-		listModel.removeElementAt(selectedItemIndex);
+		removeFromLiveChecker(listModel.remove(selectedItemIndex));
 		itemList.setSelectedIndex(-1);
 		updateTotalTimeWorkedUI();
 	}
@@ -515,6 +528,63 @@ public class UserInterface {
 		Time worked = calculateTotalTimeWorked();
 		Time succTime = buttonActionBar.updateHours(worked);
 		monthSettingsBar.setSuccTime(succTime);
+		updateLiveErrors();
+	}
+
+	/**
+	 * Shows the errors of the current entries in the {@link ActionBar}. Only the
+	 * days changed since the last call are checked again, unless the month was
+	 * changed.
+	 */
+	public void updateLiveErrors() {
+		if (buttonActionBar == null)
+			return; // Still initializing
+		if (!isLiveCheckerCurrent()) {
+			rebuildLiveChecker();
+		}
+		buttonActionBar.updateErrors(liveChecker.getErrors().stream().map(CheckerError::getErrorMessage).toList());
+	}
+
+	private boolean isLiveCheckerCurrent() {
+		return getSelectedYearMonth().equals(Optional.ofNullable(liveCheckerMonth));
+	}
+
+	private Optional<YearMonth> getSelectedYearMonth() {
+		try {
+			return Optional.of(YearMonth.of(Integer.parseInt(getFullYear()), getCurrentMonthNumber()));
+		} catch (NumberFormatException | DateTimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	private void rebuildLiveChecker() {
+		liveChecker.clear();
+		liveCheckerMonth = getSelectedYearMonth().orElse(null);
+		if (liveCheckerMonth == null)
+			return;
+		for (int i = 0; i < listModel.getSize(); i++) {
+			listModel.getElementAt(i).toCheckerEntry(liveCheckerMonth).ifPresent(entry -> updateLiveChecker(entry, true));
+		}
+	}
+
+	private void removeFromLiveChecker(TimesheetEntry entry) {
+		if (isLiveCheckerCurrent()) {
+			entry.toCheckerEntry(liveCheckerMonth).ifPresent(checkerEntry -> updateLiveChecker(checkerEntry, false));
+		}
+	}
+
+	private void updateLiveChecker(Entry entry, boolean add) {
+		try {
+			if (add) {
+				liveChecker.add(entry);
+			} else {
+				liveChecker.remove(entry);
+			}
+		} catch (CheckerException e) {
+			// Holidays are computed locally, so this never happens. The export reports it
+			// anyway.
+			Logger.getGlobal().warning("Could not check entry: " + e.getMessage());
+		}
 	}
 
 	private Time calculateTotalTimeWorked() {
@@ -594,6 +664,9 @@ public class UserInterface {
 
 		File file = args.length == 1 ? new File(args[0]) : null;
 
+		// Parse the PDF template while the user interface is being set up
+		Thread.startVirtualThread(PDFCompiler::preloadTemplate);
+
 		// Ensure the application uses the system look and feel
 		SwingUtilities.invokeLater(() -> {
 			try {
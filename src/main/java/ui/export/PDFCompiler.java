@@ -1,87 +1,123 @@
 /* Licensed under MIT 2024-2025. */
 package ui.export;
 
-import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
 import ui.Time;
+import ui.export.PdfFormLayout.HeaderField;
+import ui.export.PdfFormLayout.RowField;
 import ui.json.Global;
-import ui.json.JSONHandler;
 import ui.json.Month;
 import ui.json.UISettings;
 
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 public class PDFCompiler {
 	private static final String DATE_FORMAT_2_DIGITS = "dd.MM.yy";
 	private static final String DATE_FORMAT_4_DIGITS = "dd.MM.yyyy";
+	private static final String TOO_MANY_ENTRIES_ERROR = "The PDF template only has room for %d entries.";
+	/**
+	 * The order of the rows, same as the entries of the LaTeX output: by day, then
+	 * by start time. Month files may list their entries in any order.
+	 */
+	private static final Comparator<Month.Entry> ENTRY_ORDER = Comparator.comparingInt(Month.Entry::getDay)
+			.thenComparing(entry -> Time.parseTime(entry.getStart()), Comparator.comparingInt(Time::getHours).thenComparingInt(Time::getMinutes));
 
 	private PDFCompiler() {
 		throw new IllegalAccessError();
 	}
 
+	/**
+	 * Reads and parses the PDF template in advance, so the first export does not
+	 * have to. Errors are ignored here and reported by the export.
+	 */
+	public static void preloadTemplate() {
+		try {
+			PdfTemplate.getInstance();
+		} catch (IOException ignored) {
+			// reported again on export
+		}
+	}
+
 	public static Optional<String> compileToPDF(Global global, Month month, File targetFile, UISettings uiSettings) {
-		try (InputStream templateStream = PDFCompiler.class.getResourceAsStream("/pdf/template.pdf")) {
-			if (templateStream == null) {
-				return Optional.of("Template PDF not found in resources.");
+		try (PDDocument document = PdfTemplate.getInstance().load()) {
+			Optional<String> error = writeToPDF(document, global, month, uiSettings);
+			if (error.isEmpty()) {
+				document.save(targetFile);
 			}
-
-			PDDocument document = Loader.loadPDF(templateStream.readAllBytes());
-			return writeToPDF(document, global, month, targetFile, uiSettings);
-
+			return error;
 		} catch (IOException e) {
 			return Optional.of(e.getMessage());
 		}
 	}
 
-	private static Optional<String> writeToPDF(PDDocument document, Global global, Month month, File targetFile, UISettings uiSettings) throws IOException {
-		PDAcroForm form = document.getDocumentCatalog().getAcroForm();
-		if (form == null) {
-			return Optional.of("No form found in the document. Nothing we can do, sorry.");
+	/**
+	 * Fills the PDF template like {@link #compileToPDF(Global, Month, File, UISettings)},
+	 * but writes the document to a stream instead of a file.
+	 *
+	 * @param global       - The global settings of the employee.
+	 * @param month        - The month to export.
+	 * @param outputStream - to write the document to, which is not closed.
+	 * @param uiSettings   - The settings of the export.
+	 * @return An error message, empty if the document was written.
+	 */
+	public static Optional<String> compileToPDF(Global global, Month month, OutputStream outputStream, UISettings uiSettings) {
+		try (PDDocument document = PdfTemplate.getInstance().load()) {
+			Optional<String> error = writeToPDF(document, global, month, uiSettings);
+			if (error.isEmpty()) {
+				document.save(outputStream);
+			}
+			return error;
+		} catch (IOException e) {
+			return Optional.of(e.getMessage());
 		}
+	}
+
+	private static Optional<String> writeToPDF(PDDocument document, Global global, Month month, UISettings uiSettings) throws IOException {
+		PdfFormLayout layout = PdfFormLayout.resolve(document.getDocumentCatalog().getAcroForm());
 
-		form.getField("GF").setValue(global.getNameFormalFormat()); // Name
-		form.getField("abc").setValue(getMonth(month, uiSettings)); // Month
-		form.getField("abdd").setValue(String.valueOf(month.getYear())); // Year
-		form.getField("Personalnummer").setValue(String.valueOf(global.getStaffId())); // Personalnummer
+		layout.setValue(HeaderField.NAME, global.getNameFormalFormat());
+		layout.setValue(HeaderField.MONTH, getMonth(month, uiSettings));
+		layout.setValue(HeaderField.YEAR, String.valueOf(month.getYear()));
+		layout.setValue(HeaderField.STAFF_ID, String.valueOf(global.getStaffId()));
 		if (global.getWorkingArea().equals("gf")) {
-			form.getField("GFB").setValue("On");
-			form.getField("UB").setValue("Off");
+			layout.setValue(HeaderField.WORKING_AREA_GF, "On");
+			layout.setValue(HeaderField.WORKING_AREA_UB, "Off");
 		} else if (global.getWorkingArea().equals("ub")) {
-			form.getField("GFB").setValue("Off");
-			form.getField("UB").setValue("On");
+			layout.setValue(HeaderField.WORKING_AREA_GF, "Off");
+			layout.setValue(HeaderField.WORKING_AREA_UB, "On");
 		}
-		form.getField("OE").setValue(global.getDepartment()); // Probably department
-		form.getField("Std").setValue(global.getWorkingTime()); // Total hours
-		form.getField("Stundensatz").setValue(String.valueOf(global.getWage()));// Wage
+		layout.setValue(HeaderField.DEPARTMENT, global.getDepartment()); // Probably department
+		layout.setValue(HeaderField.WORKING_TIME, global.getWorkingTime()); // Total hours
+		layout.setValue(HeaderField.WAGE, String.valueOf(global.getWage()));
 
-		form.getField("Übertrag vom Vormonat").setValue(month.getPredTransfer()); // Pred Übertrag
-		form.getField("Übertrag in den Folgemonat").setValue(month.getSuccTransfer()); // Succ Übertrag
+		layout.setValue(HeaderField.PRED_TRANSFER, month.getPredTransfer());
+		layout.setValue(HeaderField.SUCC_TRANSFER, month.getSuccTransfer());
 
 		Time timeSum = Time.parseTime(month.getPredTransfer());
 		Time timeVacation = new Time();
-		form.getField("monatliche SollArbeitszeit").setValue(global.getWorkingTime()); // Again hours probably
+		layout.setValue(HeaderField.TARGET_WORKING_TIME, global.getWorkingTime()); // Again hours probably
 
 		try {
-			form.getField("Ich bestätige die Richtigkeit der Angaben")
-					.setValue("%s, %s".formatted(DateTimeFormatter.ofPattern(DATE_FORMAT_4_DIGITS).format(LocalDateTime.now()),
-							JSONHandler.getUISettings().isAddSignature() ? global.getName() : ""));
+			layout.setValue(HeaderField.CONFIRMATION, "%s, %s".formatted(DateTimeFormatter.ofPattern(DATE_FORMAT_4_DIGITS).format(LocalDateTime.now()),
+					uiSettings.isAddSignature() ? global.getName() : ""));
 		} catch (EOFException ignored) {
 			Logger.getGlobal().warning("Could not load font for signature field when exporting to PDF. Proceeding with default.");
 		}
 
 		final DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern(uiSettings.isUseYYYY() ? DATE_FORMAT_4_DIGITS : DATE_FORMAT_2_DIGITS);
 
-		int fieldIndex = 1;
-		for (int i = 0; i < month.getEntries().size(); i++) {
-			Month.Entry entry = month.getEntries().get(i);
+		List<Month.Entry> entries = month.getEntries().stream().sorted(ENTRY_ORDER).toList();
+		int row = 0;
+		for (Month.Entry entry : entries) {
 			Time time = Time.parseTime(entry.getEnd());
 			time.subtractTime(Time.parseTime(entry.getStart()));
 			time.subtractTime(Time.parseTime(entry.getPause()));
@@ -93,30 +129,29 @@ public class PDFCompiler {
 					continue;
 			}
 
-			form.getField("Tätigkeit Stichwort ProjektRow%d".formatted(fieldIndex)).setValue(entry.getAction());
-			form.getField("ttmmjjRow%d".formatted(fieldIndex))
-					.setValue(dayFormatter.format(LocalDateTime.of(month.getYear(), month.getMonth(), entry.getDay(), 0, 0)));
-			form.getField("hhmmRow%d".formatted(fieldIndex)).setValue(entry.getStart());
-			form.getField("hhmmRow%d_2".formatted(fieldIndex)).setValue(entry.getEnd());
-			form.getField("hhmmRow%d_3".formatted(fieldIndex)).setValue(entry.getPause());
+			if (row >= PdfFormLayout.ROW_COUNT) {
+				return Optional.of(TOO_MANY_ENTRIES_ERROR.formatted(PdfFormLayout.ROW_COUNT));
+			}
+
+			layout.setValue(row, RowField.ACTION, entry.getAction());
+			layout.setValue(row, RowField.DATE, dayFormatter.format(LocalDateTime.of(month.getYear(), month.getMonth(), entry.getDay(), 0, 0)));
+			layout.setValue(row, RowField.START, entry.getStart());
+			layout.setValue(row, RowField.END, entry.getEnd());
+			layout.setValue(row, RowField.PAUSE, entry.getPause());
 
 			String timeFieldValue = time.toString();
 			if (entry.isVacation())
 				timeFieldValue += " U";
-			form.getField("hhmmRow%d_4".formatted(fieldIndex)).setValue(timeFieldValue);
-			fieldIndex++;
+			layout.setValue(row, RowField.TIME, timeFieldValue);
+			row++;
 		}
 
-		form.getField("Summe").setValue(timeSum.toString()); // Total time worked
-		form.getField("Urlaub anteilig").setValue(timeVacation.toString()); // Total time of Vacation
+		layout.setValue(HeaderField.TOTAL_TIME, timeSum.toString()); // Total time worked
+		layout.setValue(HeaderField.VACATION_TIME, timeVacation.toString()); // Total time of Vacation
 
 		// Lock document
 		if (uiSettings.isFlattenPDF())
-			form.flatten();
-
-		// Save the filled document
-		document.save(targetFile);
-		document.close();
+			layout.getForm().flatten();
 
 		return Optional.empty();
 	}
@@ -0,0 +1,165 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import checker.ExportType;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.apache.pdfbox.pdmodel.interactive.form.PDField;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The form fields of the PDF template, resolved into arrays. The names of all
+ * fields are formatted once, and the fields of a document are looked up in a
+ * single pass over its field tree, so filling a time sheet only writes to array
+ * slots instead of formatting and searching a field name per value.
+ */
+final class PdfFormLayout {
+
+	/**
+	 * The number of entry rows of the template, equal to the row limit the
+	 * checker enforces for PDF exports.
+	 */
+	static final int ROW_COUNT = ExportType.EXPORT_PDF.getMaxEntries();
+
+	private static final String NO_FORM_ERROR = "No form found in the document. Nothing we can do, sorry.";
+	private static final String MISSING_FIELD_ERROR = "The form field '%s' is missing in the template PDF.";
+
+	private static final int HEADER_FIELD_COUNT = HeaderField.values().length;
+	private static final int ROW_FIELD_COUNT = RowField.values().length;
+	/** The slot of each field name, header fields first and then row by row. */
+	private static final Map<String, Integer> SLOTS = createSlots();
+
+	private final PDAcroForm form;
+	private final PDField[] fields;
+
+	private PdfFormLayout(PDAcroForm form, PDField[] fields) {
+		this.form = form;
+		this.fields = fields;
+	}
+
+	private static Map<String, Integer> createSlots() {
+		Map<String, Integer> slots = new HashMap<>();
+		for (HeaderField field : HeaderField.values()) {
+			slots.put(field.name, field.ordinal());
+		}
+		for (int row = 0; row < ROW_COUNT; row++) {
+			for (RowField field : RowField.values()) {
+				slots.put(field.nameFormat.formatted(row + 1), getRowSlot(row, field));
+			}
+		}
+		return Map.copyOf(slots);
+	}
+
+	private static int getRowSlot(int row, RowField field) {
+		return HEADER_FIELD_COUNT + row * ROW_FIELD_COUNT + field.ordinal();
+	}
+
+	/**
+	 * Validates that a template contains every field of the layout.
+	 *
+	 * @param fieldNames - The fully qualified names of all form fields of the
+	 *                   template.
+	 * @throws IOException if the template has no form or a field is missing.
+	 */
+	static void validate(Set<String> fieldNames) throws IOException {
+		if (fieldNames.isEmpty()) {
+			throw new IOException(NO_FORM_ERROR);
+		}
+		for (String name : SLOTS.keySet()) {
+			if (!fieldNames.contains(name)) {
+				throw new IOException(MISSING_FIELD_ERROR.formatted(name));
+			}
+		}
+	}
+
+	/**
+	 * Resolves the fields of a document's form.
+	 *
+	 * @param form - The form of a document loaded from the template.
+	 * @return The layout of the form.
+	 * @throws IOException if the document has no form or a field is missing.
+	 */
+	static PdfFormLayout resolve(PDAcroForm form) throws IOException {
+		if (form == null) {
+			throw new IOException(NO_FORM_ERROR);
+		}
+
+		PDField[] fields = new PDField[SLOTS.size()];
+		for (PDField field : form.getFieldTree()) {
+			Integer slot = SLOTS.get(field.getFullyQualifiedName());
+			if (slot != null) {
+				fields[slot] = field;
+			}
+		}
+		for (Map.Entry<String, Integer> slot : SLOTS.entrySet()) {
+			if (fields[slot.getValue()] == null) {
+				throw new IOException(MISSING_FIELD_ERROR.formatted(slot.getKey()));
+			}
+		}
+		return new PdfFormLayout(form, fields);
+	}
+
+	/**
+	 * Gets the form the fields belong to.
+	 *
+	 * @return The form.
+	 */
+	PDAcroForm getForm() {
+		return form;
+	}
+
+	/**
+	 * Sets the value of a header field.
+	 *
+	 * @param field - to set the value of.
+	 * @param value - to set.
+	 * @throws IOException if the appearance of the field cannot be generated.
+	 */
+	void setValue(HeaderField field, String value) throws IOException {
+		fields[field.ordinal()].setValue(value);
+	}
+
+	/**
+	 * Sets the value of a field of an entry row.
+	 *
+	 * @param row   - The index of the row, starting at 0.
+	 * @param field - to set the value of.
+	 * @param value - to set.
+	 * @throws IOException if the appearance of the field cannot be generated.
+	 */
+	void setValue(int row, RowField field, String value) throws IOException {
+		fields[getRowSlot(row, field)].setValue(value);
+	}
+
+	/**
+	 * The fields of the template that occur once.
+	 */
+	enum HeaderField {
+		NAME("GF"), MONTH("abc"), YEAR("abdd"), STAFF_ID("Personalnummer"), WORKING_AREA_GF("GFB"), WORKING_AREA_UB("UB"), DEPARTMENT("OE"),
+		WORKING_TIME("Std"), WAGE("Stundensatz"), PRED_TRANSFER("Übertrag vom Vormonat"), SUCC_TRANSFER("Übertrag in den Folgemonat"),
+		TARGET_WORKING_TIME("monatliche SollArbeitszeit"), CONFIRMATION("Ich bestätige die Richtigkeit der Angaben"), TOTAL_TIME("Summe"),
+		VACATION_TIME("Urlaub anteilig");
+
+		private final String name;
+
+		HeaderField(String name) {
+			this.name = name;
+		}
+	}
+
+	/**
+	 * The fields of the template that occur once per entry row.
+	 */
+	enum RowField {
+		ACTION("Tätigkeit Stichwort ProjektRow%d"), DATE("ttmmjjRow%d"), START("hhmmRow%d"), END("hhmmRow%d_2"), PAUSE("hhmmRow%d_3"), TIME("hhmmRow%d_4");
+
+		private final String nameFormat;
+
+		RowField(String nameFormat) {
+			this.nameFormat = nameFormat;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.apache.pdfbox.pdmodel.interactive.form.PDField;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The PDF form that exported time sheets are filled into. The template is read
+ * from the resources and its form fields are resolved only once, afterwards
+ * every export loads its own document from the cached bytes. Loading from
+ * memory is cheap, since PDFBox parses the objects of a document lazily.
+ */
+final class PdfTemplate {
+
+	private static final String TEMPLATE_RESOURCE = "/pdf/template.pdf";
+
+	private static volatile PdfTemplate instance;
+
+	private final byte[] bytes;
+	private final Set<String> fieldNames;
+
+	private PdfTemplate(byte[] bytes, Set<String> fieldNames) {
+		this.bytes = bytes;
+		this.fieldNames = fieldNames;
+	}
+
+	/**
+	 * Gets the template, reading and parsing it on first access. If the template
+	 * cannot be read, the next access tries again.
+	 *
+	 * @return The template.
+	 * @throws IOException if the template is missing, cannot be parsed or does not
+	 *                     match the {@link PdfFormLayout}.
+	 */
+	static PdfTemplate getInstance() throws IOException {
+		PdfTemplate result = instance;
+		if (result == null) {
+			synchronized (PdfTemplate.class) {
+				result = instance;
+				if (result == null) {
+					result = read();
+					instance = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static PdfTemplate read() throws IOException {
+		byte[] bytes;
+		try (InputStream templateStream = PdfTemplate.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+			if (templateStream == null) {
+				throw new FileNotFoundException("Template PDF not found in resources.");
+			}
+			bytes = templateStream.readAllBytes();
+		}
+
+		Set<String> fieldNames = new HashSet<>();
+		try (PDDocument document = Loader.loadPDF(bytes)) {
+			PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+			if (form != null) {
+				for (PDField field : form.getFieldTree()) {
+					fieldNames.add(field.getFullyQualifiedName());
+				}
+			}
+		}
+		PdfFormLayout.validate(fieldNames);
+		return new PdfTemplate(bytes, Collections.unmodifiableSet(fieldNames));
+	}
+
+	/**
+	 * Loads a new document from the template, which may be filled and saved
+	 * independently of all other documents. The caller has to close it.
+	 *
+	 * @return The new document.
+	 * @throws IOException if the document cannot be loaded.
+	 */
+	PDDocument load() throws IOException {
+		return Loader.loadPDF(bytes);
+	}
+
+	/**
+	 * Gets the fully qualified names of all form fields of the template.
+	 *
+	 * @return An unmodifiable set of the field names, empty if the template has
+	 *         no form.
+	 */
+	Set<String> getFieldNames() {
+		return fieldNames;
+	}
+}
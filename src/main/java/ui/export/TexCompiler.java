@@ -1,33 +1,87 @@
 /* Licensed under MIT 2024-2025. */
 package ui.export;
 
+import checker.CheckerError;
+import checker.CheckerException;
+import checker.CheckerReturn;
 import checker.ExportType;
-import ui.json.JSONHandler;
+import checker.IChecker;
+import checker.MiLoGChecker;
+import data.TimeSheet;
+import io.FileController;
+import io.IGenerator;
+import io.LatexGenerator;
+import parser.ParseException;
+import ui.json.Global;
+import ui.json.Month;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 
 public final class TexCompiler {
 
+	private static final String LATEX_TEMPLATE_RESOURCE = "MiLoG_Template.tex";
+
 	private TexCompiler() {
 		throw new IllegalAccessError();
 	}
 
-	public static void compileToTex(File monthFile, File texFile) {
-		File globalFile = JSONHandler.getConfigFile();
-		main.Main.main(new String[] { "-f", globalFile.getAbsolutePath(), monthFile.getAbsolutePath(), texFile.getAbsolutePath() });
+	/**
+	 * Generates the LaTeX file of a month in memory and saves it.
+	 *
+	 * @param global  The global settings of the employee.
+	 * @param month   The month to export.
+	 * @param texFile The file to save the LaTeX code to.
+	 * @return An optional of the error message, empty if success.
+	 */
+	public static Optional<String> compileToTex(Global global, Month month, File texFile) {
+		try {
+			TimeSheet timeSheet = TimeSheetConverter.toTimeSheet(global, month);
+			String latexTemplate = FileController.readInputStreamToString(TexCompiler.class.getClassLoader().getResourceAsStream(LATEX_TEMPLATE_RESOURCE));
+			IGenerator generator = new LatexGenerator(timeSheet, latexTemplate, false);
+			FileController.saveTextToFile(texFile, generator::generate);
+		} catch (IOException | ParseException e) {
+			return Optional.of(e.getMessage());
+		}
+		return Optional.empty();
 	}
 
 	/**
-	 * Wrapper method for the timesheet generator module timesheet compiler.
+	 * Validates a month of the user interface with the timesheet generator's
+	 * checker, without writing it to a file first.
 	 * 
-	 * @param tempFiles  The temporary files.
+	 * @param global     The global settings of the employee.
+	 * @param month      The month to validate.
 	 * @param exportType The type of file that is being exported to, as they have
 	 *                   slight differences.
 	 * @return An optional of the error message, empty if success.
 	 */
-	static Optional<String> validateContents(TempFiles tempFiles, ExportType exportType) {
-		return main.Main.validateTimesheet(tempFiles.getGlobalFile(), tempFiles.getMonthFile(), exportType);
+	static Optional<String> validateContents(Global global, Month month, ExportType exportType) {
+		TimeSheet timeSheet;
+		try {
+			timeSheet = TimeSheetConverter.toTimeSheet(global, month);
+		} catch (ParseException e) {
+			return Optional.of(e.getMessage());
+		}
+
+		IChecker checker = new MiLoGChecker(timeSheet, exportType);
+		CheckerReturn checkerReturn;
+		try {
+			checkerReturn = checker.check();
+		} catch (CheckerException e) {
+			return Optional.of(e.getMessage());
+		}
+
+		if (checkerReturn == CheckerReturn.INVALID) {
+			StringBuilder errorList = new StringBuilder();
+			for (CheckerError error : checker.getErrors()) {
+				errorList.append(error.getErrorMessage()).append(System.lineSeparator());
+			}
+			return Optional.of(errorList.toString());
+		}
+
+		return Optional.empty();
 	}
 
 }
@@ -0,0 +1,79 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import data.Employee;
+import data.Entry;
+import data.Profession;
+import data.TimeSheet;
+import data.TimeSpan;
+import data.WorkingArea;
+import parser.ParseException;
+import ui.json.Global;
+import ui.json.Month;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Converts the {@link Global} and {@link Month} of the user interface directly
+ * into a {@link TimeSheet}, so they can be checked and exported without writing
+ * and parsing json files. The conversion follows the rules of the json parsers:
+ * The pause of a vacation entry is ignored, and missing or invalid values are
+ * reported as a {@link ParseException}.
+ */
+final class TimeSheetConverter {
+
+	private static final String MISSING_VALUE_ERROR = "The value of '%s' is missing.";
+
+	private TimeSheetConverter() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * Converts the user interface data into a time sheet.
+	 *
+	 * @param global - The global settings of the employee.
+	 * @param month  - The month to convert.
+	 * @return The new time sheet.
+	 * @throws ParseException if a value is missing or invalid.
+	 */
+	static TimeSheet toTimeSheet(Global global, Month month) throws ParseException {
+		try {
+			Employee employee = new Employee(global.getName(), global.getStaffId());
+			Profession profession = new Profession(global.getDepartment(), WorkingArea.parse(require(global.getWorkingArea(), "workingArea")),
+					parseTime(global.getWorkingTime(), "workingTime"), global.getWage());
+
+			YearMonth yearMonth = YearMonth.of(month.getYear(), month.getMonth());
+			List<Month.Entry> monthEntries = month.getEntries();
+			Entry[] entries = new Entry[monthEntries.size()];
+			for (int i = 0; i < entries.length; i++) {
+				entries[i] = toEntry(monthEntries.get(i), yearMonth);
+			}
+
+			return new TimeSheet(employee, profession, yearMonth, entries, parseTime(month.getSuccTransfer(), "succ_transfer"),
+					parseTime(month.getPredTransfer(), "pred_transfer"));
+		} catch (IllegalArgumentException | DateTimeException e) {
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+	private static Entry toEntry(Month.Entry entry, YearMonth yearMonth) throws ParseException {
+		LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), entry.getDay());
+		// Like the month file, a vacation entry never has a pause
+		TimeSpan pause = entry.isVacation() ? new TimeSpan(0, 0) : parseTime(entry.getPause(), "pause");
+		return new Entry(entry.getAction(), date, parseTime(entry.getStart(), "start"), parseTime(entry.getEnd(), "end"), pause, entry.isVacation());
+	}
+
+	private static TimeSpan parseTime(String time, String name) throws ParseException {
+		return TimeSpan.parse(require(time, name));
+	}
+
+	private static String require(String value, String name) throws ParseException {
+		if (value == null) {
+			throw new ParseException(MISSING_VALUE_ERROR.formatted(name));
+		}
+		return value;
+	}
+}
@@ -1,9 +1,8 @@
 /* Licensed under MIT 2024-2026. */
 package ui.json;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import parser.json.JsonMappers;
 
 import lombok.Getter;
 import ui.ErrorHandler;
@@ -23,7 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 public final class JSONHandler {
@@ -70,8 +69,10 @@ public final class JSONHandler {
 		// Create a subdirectory for your application
 		configDir += "/TimeSheetGenerator";
 
+		// fetched in the background while the default values are loaded
+		CompletableFuture<Optional<String>> presetsJSON = PresetFetcher.fetchJSONFromEndpointAsync();
 		loadDefaultValues();
-		loadPresets();
+		loadPresets(presetsJSON.join());
 		createDefaultGlobalSettings();
 		createDefaultOtherGlobalSettings();
 		loadGlobal();
@@ -127,19 +128,16 @@ public final class JSONHandler {
 	// region Global Settings JSON Object methods
 
 	public static void loadGlobal() {
-		ObjectMapper objectMapper = new ObjectMapper();
 		try {
-			globalSettings = objectMapper.readValue(getConfigFile(), Global.class);
+			globalSettings = JsonMappers.getUiReader(Global.class).readValue(getConfigFile());
 		} catch (IOException e) {
 			ErrorHandler.showError("Error loading global settings file", ERROR.formatted(e.getMessage()));
 		}
 	}
 
 	public static void saveGlobal(Global globalSettings) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.writeValue(getConfigFile(), globalSettings);
+			JsonMappers.getUiWriter(Global.class).writeValue(getConfigFile(), globalSettings);
 			setGlobalSettings(globalSettings);
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving global settings file", ERROR.formatted(e.getMessage()));
@@ -147,19 +145,16 @@ public final class JSONHandler {
 	}
 
 	private static void loadUiSettings() {
-		ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 		try {
-			uiSettings = objectMapper.readValue(getUiSettingsFile(), UISettings.class);
+			uiSettings = JsonMappers.getLenientUiReader(UISettings.class).readValue(getUiSettingsFile());
 		} catch (IOException e) {
 			ErrorHandler.showError("Error loading UI settings file", ERROR.formatted(e.getMessage()));
 		}
 	}
 
 	public static void saveUISettings(UISettings uiSettings) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.writeValue(getUiSettingsFile(), uiSettings);
+			JsonMappers.getUiWriter(UISettings.class).writeValue(getUiSettingsFile(), uiSettings);
 			setUISettings(uiSettings);
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving UI settings file", ERROR.formatted(e.getMessage()));
@@ -171,10 +166,8 @@ public final class JSONHandler {
 	// region Month JSON Object methods
 
 	public static void loadMonth(UserInterface parentUi, File monthFile) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			Month month = objectMapper.readValue(monthFile, Month.class);
+			Month month = JsonMappers.getUiReader(Month.class).readValue(monthFile);
 
 			parentUi.importMonthBarSettings(month);
 
@@ -187,10 +180,8 @@ public final class JSONHandler {
 	}
 
 	public static boolean isFileValidMonth(File monthFile) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.readValue(monthFile, Month.class);
+			JsonMappers.getUiReader(Month.class).readValue(monthFile);
 			return true;
 		} catch (IOException e) {
 			return false;
@@ -207,11 +198,9 @@ public final class JSONHandler {
 	}
 
 	public static void saveMonth(File saveFile, MonthlySettingsBar settingsBar, DefaultListModel<TimesheetEntry> entries) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
 			Month month = getMonth(settingsBar, entries);
-			objectMapper.writeValue(saveFile, month);
+			JsonMappers.getUiWriter(Month.class).writeValue(saveFile, month);
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving month file", ERROR.formatted(e.getMessage()));
 		}
@@ -219,25 +208,7 @@ public final class JSONHandler {
 
 	// endregion
 
-	// region Default JSON File Creation + Temp File Helper Methods
-
-	public static File generateTemporaryJSONFile(MonthlySettingsBar settingsBar, DefaultListModel<TimesheetEntry> entries) {
-		File f;
-		do {
-			f = new File(configDir, "/temp-%s.json".formatted(UUID.randomUUID()));
-		} while (f.exists());
-		try {
-			if (!f.createNewFile()) {
-				// Show error in main and return using catch block
-				throw new IOException("Failed to create temporary json file %s.".formatted(f.getAbsolutePath()));
-			}
-		} catch (IOException e) {
-			ErrorHandler.showError("Error generating temp json file", ERROR.formatted(e.getMessage()));
-			return null;
-		}
-		saveMonth(f, settingsBar, entries);
-		return f;
-	}
+	// region Default JSON File Creation Helper Methods
 
 	public static File getConfigFile() {
 		return new File(configDir, CONFIG_FILE_NAME);
@@ -344,8 +315,7 @@ public final class JSONHandler {
 	}
 
 	private static FieldDefaults attemptLoadDefaultValues() throws IOException, IllegalStateException {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+		ObjectReader defaultsReader = JsonMappers.getUiReader(FieldDefaults.class);
 		Optional<String> loadedJson = DefaultsFetcher.fetchJSONFromEndpoint();
 		File defaultsFile = getValueDefaultsFile();
 
@@ -356,11 +326,11 @@ public final class JSONHandler {
 			} catch (IOException ignored) {
 				// ignore, we just save if we can
 			}
-			return objectMapper.readValue(json, FieldDefaults.class);
+			return defaultsReader.readValue(json);
 		} else {
 			// Attempt to load from file or return default
 			if (defaultsFile.exists()) {
-				return objectMapper.readValue(defaultsFile, FieldDefaults.class);
+				return defaultsReader.readValue(defaultsFile);
 			} else {
 				throw new IllegalStateException();
 			}
@@ -371,19 +341,15 @@ public final class JSONHandler {
 
 	// region Load Presets from File and API
 
-	private static void loadPresets() {
-		JSONHandler.presets = loadPresetCollection();
+	private static void loadPresets(Optional<String> presetsJSON) {
+		JSONHandler.presets = loadPresetCollection(presetsJSON);
 	}
 
-	private static PresetCollection loadPresetCollection() {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-
+	private static PresetCollection loadPresetCollection(Optional<String> presetsJSON) {
 		File presetsFile = getKnownPresetsFile();
-		Optional<String> presetsJSON = PresetFetcher.fetchJSONFromEndpoint();
 
-		Optional<PresetCollection> fromFile = parsePresetCollection(objectMapper, presetsFile);
-		Optional<PresetCollection> fromAPI = parsePresetCollection(objectMapper, presetsJSON);
+		Optional<PresetCollection> fromFile = parsePresetCollection(presetsFile);
+		Optional<PresetCollection> fromAPI = parsePresetCollection(presetsJSON);
 
 		PresetCollection mergedCollection;
 		if (fromFile.isPresent() || fromAPI.isPresent()) {
@@ -395,7 +361,7 @@ public final class JSONHandler {
 
 		// write merged collection to file
 		try {
-			objectMapper.writeValue(presetsFile, mergedCollection);
+			JsonMappers.getUiWriter(PresetCollection.class).writeValue(presetsFile, mergedCollection);
 		} catch (IOException e) {
 			Logger.getGlobal().warning("Failed to write presets to file: %s%n".formatted(presetsFile.getAbsolutePath()));
 		}
@@ -403,24 +369,23 @@ public final class JSONHandler {
 	}
 
 	/**
-	 * Parses a {@link PresetCollection} from a given file using the given
-	 * {@link ObjectMapper} and returns it as an Optional. Returns an empty optional
+	 * Parses a {@link PresetCollection} from a given file using the shared
+	 * {@link ObjectReader} and returns it as an Optional. Returns an empty optional
 	 * if either the file doesn't exist or does not contain a parseable
 	 * {@link PresetCollection}.<br/>
 	 * Used to provide more readable code by moving try-catch blocks away from the
 	 * main {@link JSONHandler#loadPresetCollection()} method.
 	 * <p>
-	 * Similar to {@link JSONHandler#parsePresetCollection(ObjectMapper, Optional)}.
+	 * Similar to {@link JSONHandler#parsePresetCollection(Optional)}.
 	 * </p>
 	 * 
-	 * @param objectMapper the ObjectMapper used to parse JSON.
-	 * @param file         The file to parse from.
+	 * @param file The file to parse from.
 	 * @return An optional of the parsed preset collection or empty.
 	 */
-	private static Optional<PresetCollection> parsePresetCollection(ObjectMapper objectMapper, File file) {
+	private static Optional<PresetCollection> parsePresetCollection(File file) {
 		if (file.exists()) {
 			try {
-				return Optional.of(objectMapper.readValue(file, PresetCollection.class));
+				return Optional.of(JsonMappers.getUiReader(PresetCollection.class).readValue(file));
 			} catch (IOException ignored) {
 				// return empty
 			}
@@ -429,25 +394,24 @@ public final class JSONHandler {
 	}
 
 	/**
-	 * Parses a {@link PresetCollection} from a given string using the given
-	 * {@link ObjectMapper} and returns it as an Optional. Returns an empty optional
+	 * Parses a {@link PresetCollection} from a given string using the shared
+	 * {@link ObjectReader} and returns it as an Optional. Returns an empty optional
 	 * if either the string is null/empty or does not contain a parseable
 	 * {@link PresetCollection}.<br/>
 	 * Used to provide more readable code by moving try-catch blocks away from the
 	 * main {@link JSONHandler#loadPresetCollection()} method.
 	 * <p>
-	 * Similar to {@link JSONHandler#parsePresetCollection(ObjectMapper, File)}.
+	 * Similar to {@link JSONHandler#parsePresetCollection(File)}.
 	 * </p>
 	 * 
-	 * @param objectMapper the ObjectMapper used to parse JSON.
-	 * @param json         The json of the PresetCollection.
+	 * @param json The json of the PresetCollection.
 	 * @return An optional of the parsed preset collection or empty.
 	 */
 	@SuppressWarnings("OptionalUsedAsFieldOrParameterType") // Optional.empty() default value otherwise needed in multiple places
-	private static Optional<PresetCollection> parsePresetCollection(ObjectMapper objectMapper, Optional<String> json) {
+	private static Optional<PresetCollection> parsePresetCollection(Optional<String> json) {
 		if (json.isPresent() && !json.get().isBlank()) {
 			try {
-				return Optional.of(objectMapper.readValue(json.get(), PresetCollection.class));
+				return Optional.of(JsonMappers.getUiReader(PresetCollection.class).readValue(json.get()));
 			} catch (IOException ignored) {
 				// return empty
 			}
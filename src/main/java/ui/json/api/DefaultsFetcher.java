@@ -1,12 +1,12 @@
 /* Licensed under MIT 2025. */
 package ui.json.api;
 
-import io.FileController;
+import io.HttpFetcher;
 
-import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class fetches default values for certain fields like the default file
@@ -21,22 +21,25 @@ public final class DefaultsFetcher {
 	// we're fetching during startup
 	// in the main thread, we don't want to spend more than 2.5 seconds on this.
 	// On my pc with good connection, in the IDE, it takes about 1 second.
-	private static final int MAX_CONNECTION_TIME = 1250;
-	private static final int MAX_READ_TIME = 1100;
+	private static final Duration MAX_FETCH_TIME = Duration.ofMillis(2350);
 
 	private DefaultsFetcher() {
 	}
 
 	public static Optional<String> fetchJSONFromEndpoint() {
-		try {
-			return Optional.of(readJSONStringFromAddress());
-		} catch (URISyntaxException | IOException e) {
-			return Optional.empty();
-		}
+		return fetchJSONFromEndpointAsync().join();
 	}
 
-	private static String readJSONStringFromAddress() throws URISyntaxException, IOException {
-		return FileController.readURLToString(new URI(ENDPOINT_DEFAULT_VALUES).toURL(), MAX_CONNECTION_TIME, MAX_READ_TIME);
+	/**
+	 * Starts fetching the JSON from the endpoint, so it can be fetched while other
+	 * files are loaded.
+	 *
+	 * @return a future completing with the fetched JSON, or empty if the endpoint
+	 *         is not reachable in time.
+	 */
+	public static CompletableFuture<Optional<String>> fetchJSONFromEndpointAsync() {
+		return HttpFetcher.fetchStringAsync(URI.create(ENDPOINT_DEFAULT_VALUES), MAX_FETCH_TIME).thenApply(Optional::of)
+				.exceptionally(exception -> Optional.empty());
 	}
 
 }
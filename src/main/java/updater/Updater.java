@@ -1,22 +1,20 @@
 /* Licensed under MIT 2025. */
 package updater;
 
+import io.HttpFetcher;
 import ui.ErrorHandler;
 import ui.json.JSONHandler;
 
 import javax.swing.*;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeoutException;
@@ -32,6 +30,7 @@ public class Updater {
 	private static final String JAR_DOWNLOAD_URL_TEMPLATE_ALT = "https://github.com/kit-sdq/TimeSheetGenerator/releases/download/%s/timesheetgenerator.jar";
 
 	private static final int TIMEOUT_FILE_DELETE_MS = 10000;
+	private static final Duration TIMEOUT_DOWNLOAD = Duration.ofMinutes(5);
 
 	private final JFrame parentFrame;
 
@@ -156,10 +155,10 @@ public class Updater {
 	private File downloadVersion(String version) throws IOException, URISyntaxException {
 		File file = new File(JSONHandler.getApplicationDataPath(), FORMAT_TEMPORARY_JAR_FILE.formatted(UUID.randomUUID()));
 		try {
-			URL link = new URI(JAR_DOWNLOAD_URL_TEMPLATE.formatted(version)).toURL();
+			URI link = new URI(JAR_DOWNLOAD_URL_TEMPLATE.formatted(version));
 			boolean success = tryReadFromSite(file, link);
 			if (!success) {
-				URL alternativeLink = new URI(JAR_DOWNLOAD_URL_TEMPLATE_ALT.formatted(version)).toURL();
+				URI alternativeLink = new URI(JAR_DOWNLOAD_URL_TEMPLATE_ALT.formatted(version));
 				success = tryReadFromSite(file, alternativeLink);
 				if (!success)
 					throw new FileNotFoundException("Could not find the latest release of the TimesheetGenerator.");
@@ -170,9 +169,9 @@ public class Updater {
 		return file;
 	}
 
-	private boolean tryReadFromSite(File file, URL link) throws IOException {
-		try (ReadableByteChannel byteChannel = Channels.newChannel(link.openStream()); FileOutputStream outputStream = new FileOutputStream(file)) {
-			outputStream.getChannel().transferFrom(byteChannel, 0, Long.MAX_VALUE);
+	private boolean tryReadFromSite(File file, URI link) throws IOException {
+		try {
+			HttpFetcher.download(link, file.toPath(), TIMEOUT_DOWNLOAD);
 		} catch (FileNotFoundException e) {
 			return false;
 		}
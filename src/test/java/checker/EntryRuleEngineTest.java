@@ -0,0 +1,113 @@
+/* Licensed under MIT 2025. */
+package checker;
+
+import data.*;
+import data.TimeSheetStatistics.DayStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntryRuleEngineTest {
+
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 11);
+	private static final TimeSpan ZERO = new TimeSpan(0, 0);
+
+	@Test
+	public void testDaysAreAccumulatedInOnePass() {
+		//// Test values
+		Entry[] entries = { new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), new TimeSpan(0, 30), false),
+				new Entry("B", YEAR_MONTH.atDay(4), new TimeSpan(13, 0), new TimeSpan(15, 0), ZERO, false),
+				new Entry("C", YEAR_MONTH.atDay(5), new TimeSpan(8, 0), new TimeSpan(10, 0), ZERO, true),
+				new Entry("D", YEAR_MONTH.atDay(6), new TimeSpan(9, 0), new TimeSpan(10, 15), new TimeSpan(0, 15), false) };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, ZERO, ZERO);
+		List<String> days = new ArrayList<>();
+		List<String> entryPairs = new ArrayList<>();
+		EntryRule rule = new EntryRule() {
+			@Override
+			public void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+				entryPairs.add((previous == null ? "-" : previous.getAction()) + entry.getAction());
+			}
+
+			@Override
+			public void checkDay(DayStatistics day, Collection<CheckerError> errors) {
+				days.add("%d:%d/%d/%d/%d".formatted(day.date().getDayOfMonth(), day.workEntryCount(), day.shiftMinutes(), day.pauseMinutes(),
+						day.workingMinutes()));
+			}
+		};
+
+		//// Execution
+		List<CheckerError> errors = EntryRuleEngine.check(timeSheet, List.of(rule));
+
+		//// Assertions
+		assertTrue(errors.isEmpty());
+		assertEquals(List.of("-A", "AB", "BC", "CD"), entryPairs);
+		assertEquals(List.of("4:2/360/30/330", "5:0/0/0/0", "6:1/75/15/60"), days);
+	}
+
+	@Test
+	public void testErrorsAreGroupedByRule() {
+		//// Test values
+		Entry[] entries = { new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false),
+				new Entry("B", YEAR_MONTH.atDay(5), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false) };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, ZERO, ZERO);
+		EntryRule entryRule = new EntryRule() {
+			@Override
+			public void checkEntry(Entry entry, Entry previous, Collection<CheckerError> errors) {
+				errors.add(new CheckerError(args -> "entry " + args[0], entry.getAction()));
+			}
+		};
+		EntryRule dayRule = new EntryRule() {
+			@Override
+			public void checkDay(DayStatistics day, Collection<CheckerError> errors) {
+				errors.add(new CheckerError(args -> "day " + args[0], day.date().getDayOfMonth()));
+			}
+		};
+
+		//// Execution
+		List<String> errorMessages = EntryRuleEngine.check(timeSheet, List.of(dayRule, entryRule)).stream().map(CheckerError::getErrorMessage).toList();
+
+		//// Assertions
+		assertEquals(List.of("day 4", "day 5", "entry A", "entry B"), errorMessages);
+	}
+
+	@Test
+	public void testFusedCheckEqualsSingleChecks() throws CheckerException {
+		//// Test values
+		Entry[] entries = { new Entry("Too long", LocalDate.of(2024, 11, 4), new TimeSpan(5, 0), new TimeSpan(17, 0), ZERO, false),
+				new Entry("Overlap", LocalDate.of(2024, 11, 5), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false),
+				new Entry("Overlap", LocalDate.of(2024, 11, 5), new TimeSpan(11, 0), new TimeSpan(12, 30), ZERO, false),
+				new Entry("Sunday", LocalDate.of(2024, 11, 10), new TimeSpan(8, 0), new TimeSpan(9, 0), ZERO, false),
+				new Entry("Late", LocalDate.of(2024, 11, 12), new TimeSpan(20, 0), new TimeSpan(23, 0), ZERO, false) };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, ZERO, ZERO);
+
+		//// Execution
+		MiLoGChecker fusedChecker = new MiLoGChecker(timeSheet);
+		fusedChecker.check();
+
+		MiLoGChecker singleChecker = new MiLoGChecker(timeSheet);
+		singleChecker.checkTotalTimeExceedance();
+		singleChecker.checkDayTimeExceedance();
+		singleChecker.checkDayPauseTime();
+		singleChecker.checkDayTimeBounds();
+		singleChecker.checkValidWorkingDays();
+		singleChecker.checkTimeOverlap();
+		singleChecker.checkRowNumExceedance();
+		singleChecker.checkDepartmentName();
+
+		//// Assertions
+		List<String> fusedErrors = fusedChecker.getErrors().stream().map(CheckerError::getErrorMessage).toList();
+		List<String> singleErrors = singleChecker.getErrors().stream().map(CheckerError::getErrorMessage).toList();
+		assertEquals(CheckerReturn.INVALID, fusedChecker.getResult());
+		assertEquals(6, fusedErrors.size());
+		assertEquals(singleErrors, fusedErrors);
+	}
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under MIT 2025. */
+package checker;
+
+import data.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalMiLoGCheckerTest {
+
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 11);
+	private static final TimeSpan ZERO = new TimeSpan(0, 0);
+
+	@Test
+	public void testSameErrorsAsFullCheck() throws CheckerException {
+		//// Test values
+		Entry[] entries = { new Entry("Overlap", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false),
+				new Entry("Overlap", YEAR_MONTH.atDay(4), new TimeSpan(11, 0), new TimeSpan(13, 0), ZERO, false),
+				new Entry("Holiday", YEAR_MONTH.atDay(1), new TimeSpan(9, 0), new TimeSpan(10, 0), ZERO, false),
+				new Entry("Sunday", YEAR_MONTH.atDay(3), new TimeSpan(9, 0), new TimeSpan(10, 0), ZERO, false),
+				new Entry("Too long", YEAR_MONTH.atDay(5), new TimeSpan(6, 0), new TimeSpan(20, 0), new TimeSpan(1, 0), false),
+				new Entry("Too early", YEAR_MONTH.atDay(6), new TimeSpan(5, 0), new TimeSpan(7, 0), ZERO, false),
+				new Entry("Valid", YEAR_MONTH.atDay(7), new TimeSpan(9, 0), new TimeSpan(10, 0), ZERO, false) };
+		Profession profession = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(80, 0), 10.31);
+		MiLoGChecker fullChecker = new MiLoGChecker(new TimeSheet(EMPLOYEE, profession, YEAR_MONTH, entries, ZERO, ZERO));
+		IncrementalMiLoGChecker checker = new IncrementalMiLoGChecker();
+
+		//// Execution
+		fullChecker.check();
+		for (Entry entry : entries) {
+			checker.add(entry);
+		}
+
+		//// Assertions
+		assertEquals(messagesOf(fullChecker.getErrors().stream().toList()), messagesOf(checker.getErrors()));
+		assertFalse(checker.isValid());
+		assertTrue(checker.hasErrors(YEAR_MONTH.atDay(4)));
+		assertFalse(checker.hasErrors(YEAR_MONTH.atDay(7)));
+	}
+
+	@Test
+	public void testRemoveChecksDayAgain() throws CheckerException {
+		//// Test values
+		Entry first = new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false);
+		Entry second = new Entry("B", YEAR_MONTH.atDay(4), new TimeSpan(11, 0), new TimeSpan(13, 0), ZERO, false);
+		IncrementalMiLoGChecker checker = new IncrementalMiLoGChecker();
+
+		//// Execution
+		checker.add(first);
+		checker.add(second);
+		int errorsWithOverlap = checker.getErrors().size();
+		boolean removed = checker.remove(second);
+
+		//// Assertions
+		assertEquals(1, errorsWithOverlap);
+		assertTrue(removed);
+		assertTrue(checker.isValid());
+		assertTrue(checker.getErrors().isEmpty());
+	}
+
+	@Test
+	public void testRemoveUnknownEntry() throws CheckerException {
+		//// Test values
+		Entry entry = new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false);
+		IncrementalMiLoGChecker checker = new IncrementalMiLoGChecker();
+
+		//// Assertions
+		assertFalse(checker.remove(entry));
+		assertTrue(checker.isValid());
+	}
+
+	@Test
+	public void testEntriesAddedOutOfOrder() throws CheckerException {
+		//// Test values
+		Entry later = new Entry("B", YEAR_MONTH.atDay(4), new TimeSpan(11, 0), new TimeSpan(13, 0), ZERO, false);
+		Entry earlier = new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), ZERO, false);
+		IncrementalMiLoGChecker checker = new IncrementalMiLoGChecker();
+
+		//// Execution
+		checker.add(later);
+		checker.add(earlier);
+
+		//// Assertions
+		assertEquals(List.of(MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_OVERLAP),
+				checker.getErrors().stream().map(CheckerError::getErrorMessageProvider).toList());
+	}
+
+	private static List<String> messagesOf(List<CheckerError> errors) {
+		return errors.stream().map(CheckerError::getErrorMessage).toList();
+	}
+}
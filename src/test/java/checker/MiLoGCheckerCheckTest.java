@@ -1,14 +1,23 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package checker;
 
+import checker.holiday.ComputedGermanyHolidayChecker;
+import checker.holiday.GermanState;
+import checker.holiday.Holiday;
+import checker.holiday.HolidayFetchException;
+import checker.holiday.IHolidayChecker;
 import data.*;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MiLoGCheckerCheckTest {
@@ -103,4 +112,68 @@ public class MiLoGCheckerCheckTest {
 		assertEquals(CheckerReturn.INVALID, checker.check());
 		assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(error)));
 	}
+
+	@Test
+	public void testErrorsOrderedByRuleWithSlowHolidayChecker() throws CheckerException {
+		//// Test values
+		LocalDate date = LocalDate.of(2024, 12, 25); // Holiday
+		Entry first = new Entry("Test", date, new TimeSpan(5, 0), new TimeSpan(6, 0), zeroTs, false);
+		Entry second = new Entry("Test", date, new TimeSpan(5, 30), new TimeSpan(7, 0), zeroTs, false);
+
+		//// Checker initialization
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, new Entry[] { first, second }, zeroTs, zeroTs);
+		IHolidayChecker holidayChecker = new SlowHolidayChecker(new ComputedGermanyHolidayChecker(date.getYear(), GermanState.BW));
+		MiLoGChecker checker = new MiLoGChecker(timeSheet, ExportType.EXPORT_LATEX, holidayChecker);
+
+		//// Expectation
+		List<CheckerError.CheckerErrorMessageProvider> expected = List.of(MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS,
+				MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY,
+				MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY, MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_OVERLAP);
+
+		//// Assertions
+		assertEquals(CheckerReturn.INVALID, checker.check());
+		assertEquals(expected, checker.getErrors().stream().map(CheckerError::getErrorMessageProvider).toList());
+	}
+
+	@Test
+	public void testHolidayFetchFailure() {
+		//// Checker initialization
+		Entry entry = new Entry("Test", LocalDate.of(2024, 11, 22), new TimeSpan(8, 0), new TimeSpan(12, 0), zeroTs, false);
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, new Entry[] { entry }, zeroTs, zeroTs);
+		IHolidayChecker holidayChecker = new SlowHolidayChecker(null);
+		MiLoGChecker checker = new MiLoGChecker(timeSheet, ExportType.EXPORT_LATEX, holidayChecker, Runnable::run);
+
+		//// Assertions
+		assertThrows(CheckerException.class, checker::check);
+	}
+
+	/**
+	 * Delays every lookup like a fetched holiday checker, or fails if there is no
+	 * checker to delegate to.
+	 */
+	private record SlowHolidayChecker(IHolidayChecker delegate) implements IHolidayChecker {
+
+		@Override
+		public boolean isHoliday(LocalDate date) throws HolidayFetchException {
+			return holidaysIn(YearMonth.from(date)).get(date.getDayOfMonth());
+		}
+
+		@Override
+		public Collection<Holiday> getHolidays() throws HolidayFetchException {
+			return delegate.getHolidays();
+		}
+
+		@Override
+		public BitSet holidaysIn(YearMonth yearMonth) throws HolidayFetchException {
+			if (delegate == null) {
+				throw new HolidayFetchException("No holidays available.");
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return delegate.holidaysIn(yearMonth);
+		}
+	}
 }
@@ -1,29 +1,15 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package checker;
 
-import checker.holiday.GermanState;
-import checker.holiday.GermanyHolidayChecker;
-import checker.holiday.HolidayFetchException;
-import checker.holiday.IHolidayChecker;
 import data.*;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import java.io.IOException;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.YearMonth;
-import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-/**
- * ATTENTION: This test class only runs correctly if the calling machine is
- * connected to the Internet.
- */
 public class MiLoGCheckerValidWorkingDaysTest {
 
 	//// Placeholder for time sheet construction
@@ -31,18 +17,6 @@ public class MiLoGCheckerValidWorkingDaysTest {
 	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
 	private static final TimeSpan zeroTs = new TimeSpan(0, 0);
 
-	@BeforeAll
-	public static void checkInternetConnection() {
-		try {
-			InetAddress inetAdress = InetAddress.getByName("kit.edu");
-			inetAdress.isReachable(1000);
-		} catch (UnknownHostException e) {
-			fail("Could not establish Internet connection.");
-		} catch (IOException e) {
-			fail(e.getMessage());
-		}
-	}
-
 	@Test
 	public void testValidWorkingDay() throws CheckerException {
 		//// Test values
@@ -150,49 +124,41 @@ public class MiLoGCheckerValidWorkingDaysTest {
 	}
 
 	@Test
-	public void testRandomDayBW() throws CheckerException, HolidayFetchException {
-		//// Random
-		Random rand = new Random();
-		int randYear = 2024;
-		int randMonth = (rand.nextInt(12) + 1);
-		int randDay = (rand.nextInt(28) + 1); // To guarantee that the date exists. It is a day between 1 and 28 incl.
+	public void testKnownHolidaysBW() throws CheckerException {
+		//// Test values
+		LocalDate labourDay = LocalDate.of(2024, Month.MAY, 1); // Wednesday, Tag der Arbeit
+		LocalDate germanUnityDay = LocalDate.of(2024, Month.OCTOBER, 3); // Thursday, Tag der Deutschen Einheit
 
+		for (LocalDate date : new LocalDate[] { labourDay, germanUnityDay }) {
+			//// Checker initialization
+			MiLoGChecker checker = checkerForDay(date);
+
+			//// Executions
+			checker.checkValidWorkingDays();
+
+			//// Expectation
+			String error = MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY.getErrorMessage(date);
+
+			//// Assertions
+			assertEquals(CheckerReturn.INVALID, checker.getResult());
+			assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(error)));
+		}
+	}
+
+	@Test
+	public void testReformationDayIsWorkingDayBW() throws CheckerException {
 		//// Test values
-		TimeSpan start = new TimeSpan(0, 0);
-		TimeSpan end = new TimeSpan(0, 0);
-		TimeSpan pause = new TimeSpan(0, 0);
-		YearMonth yearMonth = YearMonth.of(randYear, randMonth);
-		LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonthValue(), randDay);
-		GermanState state = GermanState.BW;
+		LocalDate date = LocalDate.of(2024, Month.OCTOBER, 31); // Thursday, Reformationstag is no holiday in BW
 
 		//// Checker initialization
-		Entry entry = new Entry("Test", date, start, end, pause, false);
-		Entry[] entries = { entry };
-		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, yearMonth, entries, zeroTs, zeroTs);
-		MiLoGChecker checker = new MiLoGChecker(timeSheet);
-
-		//// Assertions
-		LocalDate randDate = LocalDate.of(randYear, randMonth, randDay);
-		IHolidayChecker holidayChecker = new GermanyHolidayChecker(randDate.getYear(), state);
+		MiLoGChecker checker = checkerForDay(date);
 
 		//// Executions
 		checker.checkValidWorkingDays();
 
-		//// Expectation (on error)
-		String errorSunday = MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_SUNDAY.getErrorMessage(date);
-		String errorHoliday = MiLoGChecker.MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY.getErrorMessage(date);
-
 		//// Assertions
-		if (randDate.getDayOfWeek() == DayOfWeek.SUNDAY) {
-			assertEquals(CheckerReturn.INVALID, checker.getResult());
-			assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(errorSunday)));
-		} else if (holidayChecker.isHoliday(randDate)) {
-			assertEquals(CheckerReturn.INVALID, checker.getResult());
-			assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(errorHoliday)));
-		} else {
-			assertEquals(CheckerReturn.VALID, checker.getResult());
-			assertTrue(checker.getErrors().isEmpty());
-		}
+		assertEquals(CheckerReturn.VALID, checker.getResult());
+		assertTrue(checker.getErrors().isEmpty());
 	}
 
 	@Test
@@ -229,4 +195,11 @@ public class MiLoGCheckerValidWorkingDaysTest {
 		assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(error0)));
 		assertTrue(checker.getErrors().stream().anyMatch(item -> item.getErrorMessage().equals(error1)));
 	}
+
+	private static MiLoGChecker checkerForDay(LocalDate date) {
+		Entry entry = new Entry("Test", date, zeroTs, zeroTs, zeroTs, false);
+		Entry[] entries = { entry };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YearMonth.from(date), entries, zeroTs, zeroTs);
+		return new MiLoGChecker(timeSheet);
+	}
 }
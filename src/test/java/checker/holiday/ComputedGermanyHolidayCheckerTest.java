@@ -0,0 +1,119 @@
+/* Licensed under MIT 2025. */
+package checker.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComputedGermanyHolidayCheckerTest {
+
+	@ParameterizedTest
+	@MethodSource("getEasterSundays")
+	public void testEasterSunday(final int year, final LocalDate expected) {
+		assertEquals(expected, ComputedGermanyHolidayChecker.getEasterSunday(year));
+	}
+
+	private static Stream<Arguments> getEasterSundays() {
+		return Stream.of(Arguments.of(2019, LocalDate.of(2019, 4, 21)), Arguments.of(2024, LocalDate.of(2024, 3, 31)),
+				Arguments.of(2025, LocalDate.of(2025, 4, 20)), Arguments.of(2038, LocalDate.of(2038, 4, 25)), Arguments.of(2100, LocalDate.of(2100, 3, 28)));
+	}
+
+	@Test
+	public void testHolidaysBW2024() throws HolidayFetchException {
+		//// HolidayChecker initialization
+		IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+
+		//// Assertions
+		List<LocalDate> expected = List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 6), LocalDate.of(2024, 3, 29), LocalDate.of(2024, 4, 1),
+				LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 9), LocalDate.of(2024, 5, 20), LocalDate.of(2024, 5, 30), LocalDate.of(2024, 10, 3),
+				LocalDate.of(2024, 11, 1), LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26));
+		assertEquals(expected, holidayChecker.getHolidays().stream().map(Holiday::getDate).toList());
+	}
+
+	@Test
+	public void testIsHolidayMatchesHolidays() throws HolidayFetchException {
+		for (GermanState state : GermanState.values()) {
+			IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, state);
+			List<LocalDate> holidayDates = holidayChecker.getHolidays().stream().map(Holiday::getDate).toList();
+
+			for (LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() == 2024; date = date.plusDays(1)) {
+				assertEquals(holidayDates.contains(date), holidayChecker.isHoliday(date), state + " " + date);
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("getStateSpecificHolidays")
+	public void testStateSpecificHolidays(final GermanState state, final LocalDate date, final boolean expected) throws HolidayFetchException {
+		assertEquals(expected, new ComputedGermanyHolidayChecker(date.getYear(), state).isHoliday(date));
+	}
+
+	private static Stream<Arguments> getStateSpecificHolidays() {
+		return Stream.of(Arguments.of(GermanState.BB, LocalDate.of(2024, 3, 31), true), Arguments.of(GermanState.BW, LocalDate.of(2024, 3, 31), false),
+				Arguments.of(GermanState.BE, LocalDate.of(2024, 3, 8), true), Arguments.of(GermanState.BE, LocalDate.of(2018, 3, 8), false),
+				Arguments.of(GermanState.MV, LocalDate.of(2023, 3, 8), true), Arguments.of(GermanState.BE, LocalDate.of(2025, 5, 8), true),
+				Arguments.of(GermanState.BE, LocalDate.of(2024, 5, 8), false), Arguments.of(GermanState.SL, LocalDate.of(2024, 8, 15), true),
+				Arguments.of(GermanState.TH, LocalDate.of(2024, 9, 20), true), Arguments.of(GermanState.NI, LocalDate.of(2018, 10, 31), true),
+				Arguments.of(GermanState.NI, LocalDate.of(2016, 10, 31), false), Arguments.of(GermanState.BW, LocalDate.of(2017, 10, 31), true),
+				Arguments.of(GermanState.BW, LocalDate.of(2018, 10, 31), false), Arguments.of(GermanState.SN, LocalDate.of(2024, 11, 20), true),
+				Arguments.of(GermanState.SN, LocalDate.of(2025, 11, 19), true), Arguments.of(GermanState.NATIONAL, LocalDate.of(2024, 5, 30), false),
+				Arguments.of(GermanState.NATIONAL, LocalDate.of(2024, 10, 3), true));
+	}
+
+	@Test
+	public void testHolidaysInMatchesIsHoliday() throws HolidayFetchException {
+		for (GermanState state : GermanState.values()) {
+			IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, state);
+
+			for (int month = 1; month <= 12; month++) {
+				YearMonth yearMonth = YearMonth.of(2024, month);
+				BitSet holidays = holidayChecker.holidaysIn(yearMonth);
+
+				assertFalse(holidays.get(0));
+				for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+					assertEquals(holidayChecker.isHoliday(yearMonth.atDay(day)), holidays.get(day), state + " " + yearMonth.atDay(day));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDefaultHolidaysIn() throws HolidayFetchException {
+		IHolidayChecker computedChecker = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+		IHolidayChecker delegatingChecker = new IHolidayChecker() {
+			@Override
+			public boolean isHoliday(LocalDate date) throws HolidayFetchException {
+				return computedChecker.isHoliday(date);
+			}
+
+			@Override
+			public Collection<Holiday> getHolidays() throws HolidayFetchException {
+				return computedChecker.getHolidays();
+			}
+		};
+
+		for (int month = 1; month <= 12; month++) {
+			YearMonth yearMonth = YearMonth.of(2024, month);
+			assertEquals(computedChecker.holidaysIn(yearMonth), delegatingChecker.holidaysIn(yearMonth));
+		}
+	}
+
+	@Test
+	public void testIsHolidayOutsideOfYear() throws HolidayFetchException {
+		IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2100, 1, 1)));
+		assertFalse(holidayChecker.isHoliday(LocalDate.of(2100, 1, 2)));
+	}
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under MIT 2025. */
+package checker.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCacheTest {
+
+	private static final String HOLIDAYS_2024 = """
+			{"Neujahrstag":{"datum":"2024-01-01","hinweis":""},"1. Weihnachtstag":{"datum":"2024-12-25","hinweis":""}}""";
+	private static final Duration TIME_TO_LIVE = Duration.ofDays(30);
+	private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+	@TempDir
+	private Path cacheDirectory;
+
+	@Test
+	public void testRepeatedChecksFetchOnce() throws HolidayFetchException {
+		// data
+		AtomicInteger fetches = new AtomicInteger();
+		HolidayCache cache = new HolidayCache((year, state) -> {
+			fetches.incrementAndGet();
+			return HOLIDAYS_2024;
+		}, Optional::empty, TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC));
+		// execute
+		for (int i = 0; i < 10; i++) {
+			assertTrue(new GermanyHolidayChecker(2024, GermanState.BW, cache).isHoliday(LocalDate.of(2024, 12, 25)));
+		}
+		// assert
+		assertEquals(1, fetches.get());
+	}
+
+	@Test
+	public void testHolidaysInMonth() throws HolidayFetchException {
+		// data
+		HolidayCache cache = new HolidayCache((year, state) -> HOLIDAYS_2024, Optional::empty, TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC));
+		IHolidayChecker holidayChecker = new GermanyHolidayChecker(2024, GermanState.BW, cache);
+		// execute
+		BitSet december = holidayChecker.holidaysIn(YearMonth.of(2024, 12));
+		BitSet november = holidayChecker.holidaysIn(YearMonth.of(2024, 11));
+		BitSet otherYear = holidayChecker.holidaysIn(YearMonth.of(2025, 1));
+		// assert
+		assertEquals(BitSet.valueOf(new long[] { 1L << 25 }), december);
+		assertTrue(november.isEmpty());
+		assertTrue(otherYear.isEmpty());
+	}
+
+	@Test
+	public void testYearsAndStatesAreCachedSeparately() throws HolidayFetchException {
+		// data
+		AtomicInteger fetches = new AtomicInteger();
+		HolidayCache cache = new HolidayCache((year, state) -> {
+			fetches.incrementAndGet();
+			return HOLIDAYS_2024;
+		}, Optional::empty, TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC));
+		// execute
+		cache.getHolidays(2024, GermanState.BW);
+		cache.getHolidays(2025, GermanState.BW);
+		cache.getHolidays(2024, GermanState.BY);
+		cache.getHolidays(2024, GermanState.BW);
+		// assert
+		assertEquals(3, fetches.get());
+	}
+
+	@Test
+	public void testHolidaysAreReadFromDisk() throws HolidayFetchException {
+		// data
+		new HolidayCache((year, state) -> HOLIDAYS_2024, () -> Optional.of(cacheDirectory), TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC))
+				.getHolidays(2024, GermanState.BW);
+		HolidayCache restartedCache = new HolidayCache((year, state) -> {
+			throw new IOException("network unavailable");
+		}, () -> Optional.of(cacheDirectory), TIME_TO_LIVE, Clock.fixed(NOW.plus(Duration.ofDays(1)), ZoneOffset.UTC));
+		// execute
+		IHolidayChecker holidayChecker = new GermanyHolidayChecker(2024, GermanState.BW, restartedCache);
+		// assert
+		assertTrue(Files.isRegularFile(cacheDirectory.resolve("2024-BW.json")));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2024, 1, 1)));
+		assertFalse(holidayChecker.isHoliday(LocalDate.of(2024, 1, 2)));
+	}
+
+	@Test
+	public void testExpiredHolidaysAreReturnedAndRefreshed() throws HolidayFetchException, InterruptedException, IOException {
+		// data
+		new HolidayCache((year, state) -> HOLIDAYS_2024, () -> Optional.of(cacheDirectory), TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC))
+				.getHolidays(2024, GermanState.BW);
+		CountDownLatch refreshed = new CountDownLatch(1);
+		Instant refreshedAt = NOW.plus(TIME_TO_LIVE).plusSeconds(1);
+		HolidayCache expiredCache = new HolidayCache((year, state) -> {
+			refreshed.countDown();
+			return HOLIDAYS_2024;
+		}, () -> Optional.of(cacheDirectory), TIME_TO_LIVE, Clock.fixed(refreshedAt, ZoneOffset.UTC));
+		// execute
+		int holidayCount = expiredCache.getHolidays(2024, GermanState.BW).size();
+		// assert
+		assertEquals(2, holidayCount);
+		assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+		awaitCacheFileWrittenAt(cacheDirectory.resolve("2024-BW.json"), refreshedAt);
+	}
+
+	@Test
+	public void testFetchErrorWithoutCachedHolidays() {
+		// data
+		HolidayCache cache = new HolidayCache((year, state) -> {
+			throw new IOException("network unavailable");
+		}, () -> Optional.of(cacheDirectory), TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC));
+		// assert
+		assertThrows(HolidayFetchException.class, () -> cache.getHolidays(2024, GermanState.BW));
+	}
+
+	@Test
+	public void testFailedWriteLeavesNoTemporaryFile() throws HolidayFetchException, IOException {
+		// data
+		Path blockedFile = Files.createDirectories(cacheDirectory.resolve("2024-BW.json").resolve("blocking"));
+		HolidayCache cache = new HolidayCache((year, state) -> HOLIDAYS_2024, () -> Optional.of(cacheDirectory), TIME_TO_LIVE,
+				Clock.fixed(NOW, ZoneOffset.UTC));
+		// execute
+		cache.getHolidays(2024, GermanState.BW);
+		// assert
+		try (var files = Files.list(cacheDirectory)) {
+			assertEquals(List.of(blockedFile.getParent()), files.toList());
+		}
+	}
+
+	/**
+	 * Waits until the background refresh has replaced the cache file, so the
+	 * temporary directory is not deleted while it is still being written.
+	 */
+	private static void awaitCacheFileWrittenAt(Path file, Instant fetchedAt) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!Files.getLastModifiedTime(file).toInstant().equals(fetchedAt)) {
+			assertTrue(System.nanoTime() < deadline, "cache file was not refreshed");
+			Thread.sleep(10);
+		}
+	}
+
+}
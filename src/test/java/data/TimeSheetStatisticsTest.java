@@ -0,0 +1,71 @@
+/* Licensed under MIT 2025. */
+package data;
+
+import data.TimeSheetStatistics.DayStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeSheetStatisticsTest {
+
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2024, 11);
+	private static final TimeSpan ZERO = new TimeSpan(0, 0);
+
+	@Test
+	public void testStatistics() {
+		Entry[] entries = { new Entry("B", YEAR_MONTH.atDay(4), new TimeSpan(13, 0), new TimeSpan(15, 0), ZERO, false),
+				new Entry("A", YEAR_MONTH.atDay(4), new TimeSpan(8, 0), new TimeSpan(12, 0), new TimeSpan(0, 30), false),
+				new Entry("C", YEAR_MONTH.atDay(5), new TimeSpan(7, 0), new TimeSpan(9, 0), ZERO, true),
+				new Entry("D", YEAR_MONTH.atDay(6), new TimeSpan(9, 0), new TimeSpan(18, 15), new TimeSpan(0, 45), false) };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, ZERO, ZERO);
+
+		TimeSheetStatistics statistics = timeSheet.getStatistics();
+
+		assertEquals(3 * 60 + 30 + 2 * 60 + 8 * 60 + 30, statistics.getTotalWorkMinutes());
+		assertEquals(2 * 60, statistics.getTotalVacationMinutes());
+		assertEquals(new TimeSpan(14, 0), statistics.getTotalWorkTime());
+		assertEquals(new TimeSpan(16, 0), statistics.getTotalTime());
+		assertEquals(Optional.of(new TimeSpan(7, 0)), statistics.getEarliestStart());
+		assertEquals(Optional.of(new TimeSpan(18, 15)), statistics.getLatestEnd());
+		assertEquals(3, statistics.getDays().size());
+
+		DayStatistics day = statistics.getDay(YEAR_MONTH.atDay(4)).orElseThrow();
+		assertEquals(2, day.entryCount());
+		assertEquals(2, day.workEntryCount());
+		assertEquals(330, day.workingMinutes());
+		assertEquals(360, day.shiftMinutes());
+		assertEquals(30, day.pauseMinutes());
+		assertEquals(new TimeSpan(8, 0), day.earliestStart());
+		assertEquals(new TimeSpan(15, 0), day.latestEnd());
+
+		DayStatistics vacationDay = statistics.getDay(YEAR_MONTH.atDay(5)).orElseThrow();
+		assertFalse(vacationDay.hasWork());
+		assertEquals(120, vacationDay.vacationMinutes());
+		assertEquals(0, vacationDay.workingMinutes());
+
+		assertTrue(statistics.getDay(YEAR_MONTH.atDay(7)).isEmpty());
+	}
+
+	@Test
+	public void testStatisticsAreComputedOnce() {
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, new Entry[0], ZERO, ZERO);
+
+		assertSame(timeSheet.getStatistics(), timeSheet.getStatistics());
+	}
+
+	@Test
+	public void testStatisticsWithoutEntries() {
+		TimeSheetStatistics statistics = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, new Entry[0], ZERO, ZERO).getStatistics();
+
+		assertEquals(0, statistics.getTotalWorkMinutes());
+		assertTrue(statistics.getDays().isEmpty());
+		assertTrue(statistics.getEarliestStart().isEmpty());
+		assertTrue(statistics.getLatestEnd().isEmpty());
+	}
+
+}
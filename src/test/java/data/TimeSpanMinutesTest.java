@@ -0,0 +1,61 @@
+/* Licensed under MIT 2025. */
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeSpanMinutesTest {
+
+	@Test
+	public void testOfMinutes() {
+		TimeSpan ts = TimeSpan.ofMinutes(14 * 60 + 22);
+
+		assertEquals(14, ts.getHour());
+		assertEquals(22, ts.getMinute());
+		assertEquals(new TimeSpan(14, 22), ts);
+	}
+
+	@Test
+	public void testOfMinutesLarge() {
+		TimeSpan ts = TimeSpan.ofMinutes(250 * 60 + 59);
+
+		assertEquals(250, ts.getHour());
+		assertEquals(59, ts.getMinute());
+	}
+
+	@Test
+	public void testOfMinutesCached() {
+		assertSame(TimeSpan.ofMinutes(90), TimeSpan.ofMinutes(90));
+		assertSame(TimeSpan.ofMinutes(90), new TimeSpan(1, 0).add(new TimeSpan(0, 30)));
+	}
+
+	@Test
+	public void testOfMinutesNegative() {
+		assertThrows(IllegalArgumentException.class, () -> TimeSpan.ofMinutes(-1));
+	}
+
+	@Test
+	public void testMinutesOf() {
+		assertEquals(0, TimeSpan.minutesOf(new TimeSpan(0, 0)));
+		assertEquals(605, TimeSpan.minutesOf(new TimeSpan(10, 5)));
+	}
+
+	@Test
+	public void testSumMinutes() {
+		assertEquals(0, TimeSpan.sumMinutes());
+		assertEquals(185, TimeSpan.sumMinutes(new TimeSpan(1, 30), new TimeSpan(0, 45), new TimeSpan(0, 50)));
+	}
+
+	@Test
+	public void testSubtractMinutes() {
+		assertEquals(15, TimeSpan.subtractMinutes(45, 30));
+		assertThrows(IllegalArgumentException.class, () -> TimeSpan.subtractMinutes(30, 45));
+	}
+
+	@Test
+	public void testEqualTimeSpansHaveEqualHashCodes() {
+		assertEquals(new TimeSpan(100, 1).hashCode(), TimeSpan.ofMinutes(6001).hashCode());
+	}
+
+}
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package data;
 
 import org.junit.jupiter.api.Assertions;
@@ -248,4 +248,57 @@ public class TimeSpanParseTest {
 		//// TimeSpan initialization
 		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse(timeString));
 	}
+
+	@Test
+	public void testSlice() {
+		//// Test values
+		String text = "{\"start\": \"10:05\", \"end\": \"123:4\"}";
+		int start = text.indexOf("10:05");
+		int end = text.indexOf("123:4");
+
+		//// TimeSpan initialization
+		TimeSpan startTS = TimeSpan.parse(text, start, start + 5);
+		TimeSpan endTS = TimeSpan.parse(new StringBuilder(text), end, end + 5);
+
+		//// Assertions
+		assertEquals(new TimeSpan(10, 5), startTS);
+		assertEquals(new TimeSpan(123, 4), endTS);
+	}
+
+	@Test
+	public void testInvalidSlice() {
+		//// Test values
+		String text = "10:05";
+
+		//// TimeSpan initialization
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse(text, 0, 3));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse(text, 1, 1));
+	}
+
+	@Test
+	public void testInvalidWhitespace() {
+		//// TimeSpan initialization
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse(" 1:00"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse("1:00 "));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse("1 :00"));
+	}
+
+	@Test
+	public void testInvalidHoursOverflow() {
+		//// Test values
+		String timeString = "99999999999:00";
+
+		//// TimeSpan initialization
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimeSpan.parse(timeString));
+	}
+
+	@Test
+	public void testLargeHours() {
+		//// TimeSpan initialization
+		TimeSpan timeSpan = TimeSpan.parse("1000000:59");
+
+		//// Assertions
+		assertEquals(1000000, timeSpan.getHour());
+		assertEquals(59, timeSpan.getMinute());
+	}
 }
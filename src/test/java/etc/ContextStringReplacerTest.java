@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package etc;
 
 import etc.ContextStringReplacer.ContextStringReplacerIterator;
@@ -517,6 +517,77 @@ public class ContextStringReplacerTest {
 		Assertions.assertThrows(IllegalStateException.class, () -> storedReplacement.replace("ooo W"));
 	}
 
+	@Test
+	public void testLookbehindAfterReplacement() {
+		// data
+		ContextStringReplacer replacer = new ContextStringReplacer("Hello World", List.of("l", "o"));
+		// execute
+		StringBuilder lookbehinds = new StringBuilder();
+		for (ContextStringReplacement replacement : replacer) {
+			lookbehinds.append(replacement.getLookbehind(3)).append('|');
+			replacement.replace(replacement.getSubstring().toUpperCase());
+		}
+		// assert
+		assertEquals("He|HeL|eLL|O W|WOr|", lookbehinds.toString());
+		assertEquals("HeLLO WOrLd", replacer.getString());
+	}
+
+	@Test
+	public void testIndexAfterReplacement() {
+		// data
+		ContextStringReplacer replacer = new ContextStringReplacer("a-b-c", List.of("-"));
+		// execute
+		StringBuilder indices = new StringBuilder();
+		for (ContextStringReplacement replacement : replacer) {
+			indices.append(replacement.getIndex()).append('|');
+			replacement.replace("---");
+		}
+		// assert
+		assertEquals("1|5|", indices.toString());
+		assertEquals("a---b---c", replacer.getString());
+	}
+
+	@Test
+	public void testGetStringWhileIterating() {
+		// data
+		ContextStringReplacer replacer = new ContextStringReplacer("Hello World", List.of("o"));
+		ContextStringReplacerIterator iterator = replacer.iterator();
+		// execute
+		iterator.next().replace("0");
+		String intermediate = replacer.getString();
+		iterator.next().replace("00");
+		// assert
+		assertEquals("Hell0 World", intermediate);
+		assertEquals("Hell0 W00rld", replacer.getString());
+		Assertions.assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testNewIteratorAfterReplacement() {
+		// data
+		ContextStringReplacer replacer = new ContextStringReplacer("Hello World", List.of("o"));
+		// execute
+		for (ContextStringReplacement replacement : replacer) {
+			replacement.replace("oo");
+		}
+		int matches = 0;
+		for (ContextStringReplacement replacement : replacer) {
+			matches++;
+			replacement.skip();
+		}
+		// assert
+		assertEquals(4, matches);
+		assertEquals("Helloo Woorld", replacer.getString());
+	}
+
+	@Test
+	public void testNonAsciiSubstring() {
+		// execute
+		String result = ContextStringReplacer.replace("Grüße über Öl", List.of("ü", "Öl", "ß"), (replacement) -> replacement.replace("_"));
+		// assert
+		assertEquals("Gr__e _ber _", result);
+	}
+
 	@Test
 	public void testStaticReplaceFunction() {
 		// execute
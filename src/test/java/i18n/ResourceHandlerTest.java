@@ -1,12 +1,17 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package i18n;
 
 import i18n.ResourceHandler.ResourceHandlerInstance;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -167,4 +172,47 @@ public class ResourceHandlerTest {
 		assertEquals("Fallback to 21. Juli 2019", result);
 	}
 
+	@Test
+	public void testGetMessagePaddedNumbers() {
+		// data
+		resourceHandler.setLocale(Locale.ENGLISH);
+		// execute
+		String padded = resourceHandler.getMessage("paddedNumbers", 7, 5);
+		String longer = resourceHandler.getMessage("paddedNumbers", 123, 0);
+		String notInteger = resourceHandler.getMessage("paddedNumbers", 7L, 5.0);
+		// assert
+		assertEquals("07:05", padded);
+		assertEquals("123:00", longer);
+		assertEquals("07:05", notInteger);
+	}
+
+	@Test
+	public void testGetMessageConcurrently() {
+		// data
+		resourceHandler.setLocale(Locale.GERMAN);
+		List<LocalDate> dates = IntStream.rangeClosed(1, 28).mapToObj(day -> LocalDate.of(2019, 2, day)).toList();
+		// execute
+		List<String> results = dates.parallelStream().map(date -> resourceHandler.getMessage("dateWithFormat", date)).toList();
+		// assert
+		for (int i = 0; i < dates.size(); i++) {
+			assertEquals("Am %02d.02.2019".formatted(i + 1), results.get(i));
+		}
+	}
+
+	@Test
+	public void testGetLocalizedRecreatedForLocale() {
+		// data
+		Function<UnaryOperator<String>, String> factory = messages -> messages.apply("test");
+		// execute
+		resourceHandler.setLocale(Locale.ENGLISH);
+		String english = resourceHandler.getLocalized(factory);
+		String englishCached = resourceHandler.getLocalized(factory);
+		resourceHandler.setLocale(Locale.GERMAN);
+		String german = resourceHandler.getLocalized(factory);
+		// assert
+		assertEquals("Hello World!", english);
+		Assertions.assertSame(english, englishCached);
+		assertEquals("Hallo Welt!", german);
+	}
+
 }
@@ -0,0 +1,104 @@
+/* Licensed under MIT 2025. */
+package io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileControllerTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	public void testReadInputStreamKeepsLineEndings() throws IOException {
+		// data
+		String content = "Über\r\nZeile\nohne Zeilenende";
+		// execute
+		String result = FileController.readInputStreamToString(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		// assert
+		assertEquals(content, result);
+	}
+
+	@Test
+	public void testReadFile() throws IOException {
+		// data
+		Path file = directory.resolve("month.json");
+		Files.writeString(file, "{\"action\": \"Übung\"}\r\n", StandardCharsets.UTF_8);
+		// execute
+		String result = FileController.readFileToString(file.toFile());
+		// assert
+		assertEquals("{\"action\": \"Übung\"}\r\n", result);
+	}
+
+	@Test
+	public void testReadLargeFile() throws IOException {
+		// data
+		byte[] content = new byte[9 * 1024 * 1024];
+		Arrays.fill(content, (byte) 'a');
+		content[content.length - 1] = (byte) 'z';
+		Path file = directory.resolve("large.txt");
+		Files.write(file, content);
+		// execute
+		byte[] result = FileController.readFileToBytes(file);
+		// assert
+		assertArrayEquals(content, result);
+	}
+
+	@Test
+	public void testSaveStringReplacesFile() throws IOException {
+		// data
+		File file = directory.resolve("output.tex").toFile();
+		Files.writeString(file.toPath(), "old content that is longer");
+		// execute
+		FileController.saveStringToFile("neuer Inhalt", file);
+		// assert
+		assertEquals("neuer Inhalt", Files.readString(file.toPath()));
+		assertEquals(List.of(file.toPath()), listDirectory());
+	}
+
+	@Test
+	public void testSaveTextStreams() throws IOException {
+		// data
+		File file = directory.resolve("output.tex").toFile();
+		// execute
+		FileController.saveTextToFile(file, writer -> {
+			writer.write("a");
+			writer.write("ä");
+		});
+		// assert
+		assertEquals("aä", Files.readString(file.toPath(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testSaveTextFailureKeepsFile() throws IOException {
+		// data
+		File file = directory.resolve("output.tex").toFile();
+		Files.writeString(file.toPath(), "old content");
+		// execute
+		IOException exception = assertThrows(IOException.class, () -> FileController.saveTextToFile(file, writer -> {
+			writer.write("partial content");
+			throw new IOException("generation failed");
+		}));
+		// assert
+		assertEquals("generation failed", exception.getMessage());
+		assertEquals("old content", Files.readString(file.toPath()));
+		assertEquals(List.of(file.toPath()), listDirectory());
+	}
+
+	private List<Path> listDirectory() throws IOException {
+		try (var files = Files.list(directory)) {
+			return files.toList();
+		}
+	}
+}
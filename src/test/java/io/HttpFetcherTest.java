@@ -0,0 +1,179 @@
+/* Licensed under MIT 2025. */
+package io;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpFetcherTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private static final AtomicInteger slowRequests = new AtomicInteger();
+	private static final CountDownLatch releaseSlow = new CountDownLatch(1);
+	private static final AtomicInteger delayedRequests = new AtomicInteger();
+	private static final CountDownLatch releaseDelayed = new CountDownLatch(1);
+
+	private static HttpServer server;
+
+	@TempDir
+	private Path directory;
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/text", exchange -> respond(exchange, 200, "Übung"));
+		server.createContext("/slow", exchange -> {
+			slowRequests.incrementAndGet();
+			try {
+				releaseSlow.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "slow");
+		});
+		server.createContext("/delayed", exchange -> {
+			delayedRequests.incrementAndGet();
+			try {
+				releaseDelayed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "delayed");
+		});
+		server.createContext("/hanging", exchange -> {
+			try {
+				Thread.sleep(TIMEOUT.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "too late");
+		});
+		server.createContext("/error", exchange -> respond(exchange, 500, "error"));
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.start();
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void testFetchString() throws IOException {
+		// execute
+		String result = HttpFetcher.fetchString(uri("/text"), TIMEOUT);
+
+		// assert
+		assertEquals("Übung", result);
+	}
+
+	@Test
+	public void testConcurrentFetchesAreCoalesced() throws IOException {
+		// execute
+		CompletableFuture<String> first = HttpFetcher.fetchStringAsync(uri("/slow"), TIMEOUT);
+		CompletableFuture<String> second = HttpFetcher.fetchStringAsync(uri("/slow"), TIMEOUT);
+		releaseSlow.countDown();
+
+		// assert
+		assertEquals("slow", HttpFetcher.await(first));
+		assertEquals("slow", HttpFetcher.await(second));
+		assertEquals(1, slowRequests.get());
+	}
+
+	@Test
+	public void testCoalescedFetchesHaveOwnTimeouts() throws IOException {
+		// execute
+		CompletableFuture<String> impatient = HttpFetcher.fetchStringAsync(uri("/delayed"), Duration.ofMillis(200));
+		CompletableFuture<String> patient = HttpFetcher.fetchStringAsync(uri("/delayed"), TIMEOUT);
+		assertThrows(HttpTimeoutException.class, () -> HttpFetcher.await(impatient));
+		releaseDelayed.countDown();
+
+		// assert
+		assertEquals("delayed", HttpFetcher.await(patient));
+		assertEquals(1, delayedRequests.get());
+	}
+
+	@Test
+	public void testTimeout() {
+		// execute
+		long start = System.nanoTime();
+		assertThrows(HttpTimeoutException.class, () -> HttpFetcher.fetchString(uri("/hanging"), Duration.ofMillis(200)));
+
+		// assert
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(TIMEOUT) < 0);
+	}
+
+	@Test
+	public void testMissingResource() {
+		// execute & assert
+		assertThrows(FileNotFoundException.class, () -> HttpFetcher.fetchString(uri("/missing"), TIMEOUT));
+	}
+
+	@Test
+	public void testErrorStatus() {
+		// execute
+		IOException exception = assertThrows(IOException.class, () -> HttpFetcher.fetchString(uri("/error"), TIMEOUT));
+
+		// assert
+		assertTrue(exception.getMessage().contains("500"));
+	}
+
+	@Test
+	public void testDownload() throws IOException {
+		// data
+		Path file = directory.resolve("download.txt");
+
+		// execute
+		HttpFetcher.download(uri("/text"), file, TIMEOUT);
+
+		// assert
+		assertEquals("Übung", Files.readString(file, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testDownloadMissingResource() {
+		// data
+		Path file = directory.resolve("download.txt");
+
+		// execute
+		assertThrows(FileNotFoundException.class, () -> HttpFetcher.download(uri("/missing"), file, TIMEOUT));
+
+		// assert
+		assertFalse(Files.exists(file));
+	}
+
+	private static URI uri(String path) {
+		return URI.create("http://localhost:%d%s".formatted(server.getAddress().getPort(), path));
+	}
+
+	private static void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(statusCode, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+}
@@ -1,10 +1,14 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package io;
 
 import data.*;
 import org.junit.jupiter.api.Test;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.Month;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -237,4 +241,23 @@ public class LatexGeneratorTest {
 		assertEquals(latexExp, latex);
 	}
 
+	@Test
+	public void testGenerateToWriter() throws IOException {
+		// data
+		Entry entry0 = new Entry("Test & Action", YEAR_MONTH.atDay(12), new TimeSpan(10, 0), new TimeSpan(14, 0), new TimeSpan(0, 30), false);
+		Entry entry1 = new Entry("Test Action 2", YEAR_MONTH.atDay(14), new TimeSpan(8, 0), new TimeSpan(12, 0), new TimeSpan(0, 0), false);
+		Entry[] entries = new Entry[] { entry0, entry1 };
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, zeroTs, zeroTs);
+		String template = "Name: !employeeName, Action 1: !action, Action 2: !action, Department: !department";
+		LatexGenerator generator = new LatexGenerator(timeSheet, template);
+		StringWriter writer = new StringWriter();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		// execute
+		generator.generate(writer);
+		generator.generate(outputStream);
+		// assert
+		assertEquals(generator.generate(), writer.toString());
+		assertEquals(generator.generate(), outputStream.toString(StandardCharsets.UTF_8));
+	}
+
 }
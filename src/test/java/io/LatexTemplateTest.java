@@ -0,0 +1,62 @@
+/* Licensed under MIT 2025. */
+package io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LatexTemplateTest {
+
+	private static final List<String> PLACEHOLDERS = List.of("!a", "!b", "!ab");
+
+	@Test
+	public void testRenderWithoutPlaceholders() throws IOException {
+		// data
+		LatexTemplate template = LatexTemplate.compile("\\begin no placeholders \\end", PLACEHOLDERS);
+		StringBuilder result = new StringBuilder();
+		// execute
+		template.render((placeholder, occurrence) -> "X", result);
+		// assert
+		assertEquals("\\begin no placeholders \\end", result.toString());
+		assertEquals("\\begin no placeholders \\end".length(), template.getLiteralLength());
+	}
+
+	@Test
+	public void testRenderCountsOccurrencesPerPlaceholder() throws IOException {
+		// data
+		LatexTemplate template = LatexTemplate.compile("!a-!b-!a-!a!b", PLACEHOLDERS);
+		StringBuilder result = new StringBuilder();
+		// execute
+		template.render((placeholder, occurrence) -> PLACEHOLDERS.get(placeholder).substring(1) + occurrence, result);
+		// assert
+		assertEquals("a0-b0-a1-a2b1", result.toString());
+		assertEquals(3, template.getOccurrences(0));
+		assertEquals(2, template.getOccurrences(1));
+		assertEquals(0, template.getOccurrences(2));
+	}
+
+	@Test
+	public void testRenderDoesNotRescanSubstitutes() throws IOException {
+		// data
+		LatexTemplate template = LatexTemplate.compile("x !a y !b", PLACEHOLDERS);
+		StringBuilder result = new StringBuilder();
+		// execute
+		template.render((placeholder, occurrence) -> placeholder == 0 ? "!b" : "$\\1", result);
+		// assert
+		assertEquals("x !b y $\\1", result.toString());
+	}
+
+	@Test
+	public void testCompiledTemplatesAreCached() {
+		// execute
+		LatexTemplate first = LatexTemplate.of(new String("!a !b"), PLACEHOLDERS);
+		LatexTemplate second = LatexTemplate.of(new String("!a !b"), PLACEHOLDERS);
+		// assert
+		assertSame(first, second);
+	}
+
+}
@@ -0,0 +1,220 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import checker.ExportType;
+import main.request.BatchRequest;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchGeneratorTest {
+
+	private static final String JSON_GLOBAL = "{\"name\": \"Max Mustermann\", \"staffId\": 1234567, \"department\": \"Fakultät für Informatik\","
+			+ " \"workingTime\": \"40:00\", \"wage\": 12.41, \"workingArea\": \"ub\"}";
+	private static final String JSON_MONTH = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 4, \"start\": \"10:00\", \"end\": \"11:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 5, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"}]}";
+	private static final String JSON_MONTH_UNSORTED = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Dritte\", \"day\": 5, \"start\": \"09:00\", \"end\": \"10:00\"},"
+			+ "{\"action\": \"Zweite\", \"day\": 4, \"start\": \"14:00\", \"end\": \"15:00\"},"
+			+ "{\"action\": \"Erste\", \"day\": 4, \"start\": \"9:30\", \"end\": \"11:00\"}]}";
+	private static final String JSON_MONTH_INVALID = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 4, \"start\": \"11:00\", \"end\": \"10:00\"}]}";
+
+	@TempDir
+	private Path directory;
+
+	private File globalFile;
+	private File monthDirectory;
+	private File outputDirectory;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		globalFile = Files.writeString(directory.resolve("global.json"), JSON_GLOBAL).toFile();
+		monthDirectory = Files.createDirectory(directory.resolve("months")).toFile();
+		Files.writeString(monthDirectory.toPath().resolve("november.json"), JSON_MONTH);
+		Files.writeString(monthDirectory.toPath().resolve("invalid.json"), JSON_MONTH_INVALID);
+		outputDirectory = directory.resolve("output").toFile();
+	}
+
+	@Test
+	public void testLatexBatch() throws IOException {
+		// data
+		BatchRequest request = new BatchRequest(globalFile, monthDirectory, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertEquals(2, results.size());
+		assertFalse(results.get(0).isSuccess());
+		assertTrue(results.get(1).isSuccess());
+		assertTrue(new File(outputDirectory, "november.tex").isFile());
+		assertFalse(new File(outputDirectory, "invalid.tex").exists());
+	}
+
+	@Test
+	public void testDirectoryBatchIgnoresOtherFiles() throws IOException {
+		// data
+		Files.writeString(monthDirectory.toPath().resolve("notes.txt"), "not a month file");
+		BatchRequest request = new BatchRequest(globalFile, monthDirectory, outputDirectory, 1, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertEquals(List.of("invalid.json", "november.json"), results.stream().map(result -> result.monthFile().getName()).toList());
+	}
+
+	@Test
+	public void testManifestBatch() throws IOException {
+		// data
+		Path otherDirectory = Files.createDirectory(directory.resolve("other"));
+		Files.writeString(otherDirectory.resolve("december.json"), JSON_MONTH.replace("\"month\": 11", "\"month\": 12"));
+		File manifest = Files.writeString(directory.resolve("manifest.txt"), """
+				# months of the winter term
+				other/december.json
+
+				months/november.json
+				""").toFile();
+		BatchRequest request = new BatchRequest(globalFile, manifest, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertEquals(List.of("december.json", "november.json"), results.stream().map(result -> result.monthFile().getName()).toList());
+		assertTrue(results.stream().allMatch(BatchGenerator.BatchResult::isSuccess));
+		assertTrue(new File(outputDirectory, "other/december.tex").isFile());
+		assertTrue(new File(outputDirectory, "months/november.tex").isFile());
+	}
+
+	@Test
+	public void testManifestKeepsDirectoriesOfSameNamedFiles() throws IOException {
+		// data
+		Files.writeString(Files.createDirectories(directory.resolve("a")).resolve("month.json"), JSON_MONTH);
+		Files.writeString(Files.createDirectories(directory.resolve("b")).resolve("month.json"), JSON_MONTH.replace("Korrektur", "Tutorium"));
+		File manifest = Files.writeString(directory.resolve("manifest.txt"), "a/month.json\nb/month.json\n").toFile();
+		BatchRequest request = new BatchRequest(globalFile, manifest, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertTrue(results.stream().allMatch(BatchGenerator.BatchResult::isSuccess));
+		assertTrue(Files.readString(outputDirectory.toPath().resolve("a/month.tex")).contains("Korrektur"));
+		assertTrue(Files.readString(outputDirectory.toPath().resolve("b/month.tex")).contains("Tutorium"));
+	}
+
+	@Test
+	public void testManifestWithOwnGlobalFiles() throws IOException {
+		// data
+		Path alice = Files.createDirectories(directory.resolve("alice"));
+		Files.writeString(alice.resolve("global.json"), JSON_GLOBAL.replace("Max Mustermann", "Alice Beispiel"));
+		Files.writeString(alice.resolve("month.json"), JSON_MONTH);
+		Path bob = Files.createDirectories(directory.resolve("bob"));
+		Files.writeString(bob.resolve("month.json"), JSON_MONTH);
+		File manifest = Files.writeString(directory.resolve("manifest.txt"), """
+				alice/global.json | alice/month.json
+				bob/month.json
+				missing/global.json | months/november.json
+				""").toFile();
+		BatchRequest request = new BatchRequest(globalFile, manifest, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertTrue(results.get(0).isSuccess());
+		assertTrue(results.get(1).isSuccess());
+		assertFalse(results.get(2).isSuccess());
+		assertTrue(Files.readString(outputDirectory.toPath().resolve("alice/month.tex")).contains("Alice Beispiel"));
+		assertTrue(Files.readString(outputDirectory.toPath().resolve("bob/month.tex")).contains("Max Mustermann"));
+	}
+
+	@Test
+	public void testSameOutputFileFailsBothEntries() throws IOException {
+		// data
+		Files.writeString(Files.createDirectories(directory.resolve("a")).resolve("month.json"), JSON_MONTH);
+		Files.writeString(Files.createDirectories(directory.resolve("b")).resolve("month.json"), JSON_MONTH);
+		Path manifestDirectory = Files.createDirectory(directory.resolve("manifests"));
+		File manifest = Files.writeString(manifestDirectory.resolve("manifest.txt"), "../a/month.json\n../b/month.json\nmonths/november.json\n")
+				.toFile();
+		Files.createDirectories(manifestDirectory.resolve("months"));
+		Files.copy(monthDirectory.toPath().resolve("november.json"), manifestDirectory.resolve("months/november.json"));
+		BatchRequest request = new BatchRequest(globalFile, manifest, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertFalse(results.get(0).isSuccess());
+		assertFalse(results.get(1).isSuccess());
+		assertTrue(results.get(0).error().orElseThrow().contains("month"));
+		assertTrue(results.get(2).isSuccess());
+		assertFalse(new File(outputDirectory, "month.tex").exists());
+	}
+
+	@Test
+	public void testMissingManifestEntryFailsOnlyThatFile() throws IOException {
+		// data
+		File manifest = Files.writeString(directory.resolve("manifest.txt"), "months/november.json\nmonths/missing.json\n").toFile();
+		BatchRequest request = new BatchRequest(globalFile, manifest, outputDirectory, 2, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertTrue(results.get(0).isSuccess());
+		assertFalse(results.get(1).isSuccess());
+		assertTrue(new File(outputDirectory, "months/november.tex").isFile());
+		assertTrue(BatchGenerator.summarize(results).contains("missing.json"));
+	}
+
+	@Test
+	public void testPdfBatch() throws IOException {
+		// data
+		BatchRequest request = new BatchRequest(globalFile, monthDirectory, outputDirectory, 2, false, ExportType.EXPORT_PDF, false);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertTrue(results.get(1).isSuccess(), () -> results.get(1).error().orElse(""));
+		try (PDDocument document = Loader.loadPDF(new File(outputDirectory, "november.pdf"))) {
+			PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+			assertNotNull(form);
+			assertEquals("Mustermann, Max", form.getField("GF").getValueAsString());
+			assertEquals("Fragen beantworten", form.getField("Tätigkeit Stichwort ProjektRow2").getValueAsString());
+		}
+	}
+
+	@Test
+	public void testPdfBatchSortsEntries() throws IOException {
+		// data
+		Files.writeString(monthDirectory.toPath().resolve("unsorted.json"), JSON_MONTH_UNSORTED);
+		BatchRequest request = new BatchRequest(globalFile, monthDirectory, outputDirectory, 1, false, ExportType.EXPORT_PDF, false);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		// assert
+		assertTrue(results.stream().allMatch(result -> result.isSuccess() || result.monthFile().getName().equals("invalid.json")));
+		try (PDDocument document = Loader.loadPDF(new File(outputDirectory, "unsorted.pdf"))) {
+			PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+			assertEquals("Erste", form.getField("Tätigkeit Stichwort ProjektRow1").getValueAsString());
+			assertEquals("Zweite", form.getField("Tätigkeit Stichwort ProjektRow2").getValueAsString());
+			assertEquals("Dritte", form.getField("Tätigkeit Stichwort ProjektRow3").getValueAsString());
+		}
+	}
+
+	@Test
+	public void testSummaryContainsTiming() throws IOException {
+		// data
+		BatchRequest request = new BatchRequest(globalFile, monthDirectory, outputDirectory, 1, false, ExportType.EXPORT_LATEX, true);
+		// execute
+		List<BatchGenerator.BatchResult> results = new BatchGenerator(request).run();
+		String summary = BatchGenerator.summarize(results);
+		// assert
+		for (BatchGenerator.BatchResult result : results) {
+			assertTrue(summary.contains("%s: %d ms".formatted(result.monthFile().getPath(), result.duration().toMillis())));
+		}
+		assertTrue(new File(outputDirectory, "batch-summary.txt").isFile());
+	}
+}
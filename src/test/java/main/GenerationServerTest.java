@@ -0,0 +1,163 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerationServerTest {
+
+	private static final String JSON_GLOBAL = "{\"name\": \"Max Mustermann\", \"staffId\": 1234567, \"department\": \"Fakultät für Informatik\","
+			+ " \"workingTime\": \"40:00\", \"wage\": 12.41, \"workingArea\": \"ub\"}";
+	private static final String JSON_MONTH = "{\"year\": 2019, \"month\": 11, \"pred_transfer\": \"0:00\", \"succ_transfer\": \"0:00\", \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 4, \"start\": \"10:00\", \"end\": \"11:00\", \"pause\": \"00:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 5, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"}]}";
+	private static final String JSON_MONTH_UNSORTED = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Zweite\", \"day\": 5, \"start\": \"09:00\", \"end\": \"10:00\"},"
+			+ "{\"action\": \"Erste\", \"day\": 4, \"start\": \"14:00\", \"end\": \"15:00\"}]}";
+	private static final String JSON_MONTH_INVALID = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 3, \"start\": \"10:00\", \"end\": \"11:00\"}]}";
+
+	private static GenerationServer server;
+	private static HttpClient client;
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		server = new GenerationServer(0);
+		server.start();
+		client = HttpClient.newHttpClient();
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		client.close();
+		server.stop();
+	}
+
+	@Test
+	public void testValidateValid() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = post("/validate", body(JSON_MONTH));
+
+		// assert
+		assertEquals(200, response.statusCode());
+		assertTrue(response.body().contains("\"VALID\""));
+	}
+
+	@Test
+	public void testValidateInvalid() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = post("/validate", body(JSON_MONTH_INVALID));
+
+		// assert
+		assertEquals(200, response.statusCode());
+		assertTrue(response.body().contains("\"INVALID\""));
+	}
+
+	@Test
+	public void testLatex() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = post("/latex", body(JSON_MONTH));
+
+		// assert
+		assertEquals(200, response.statusCode());
+		assertTrue(response.body().contains("Fragen beantworten"));
+	}
+
+	@Test
+	public void testLatexInvalid() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = post("/latex", body(JSON_MONTH_INVALID));
+
+		// assert
+		assertEquals(422, response.statusCode());
+	}
+
+	@Test
+	public void testPdf() throws IOException, InterruptedException {
+		// data
+		HttpRequest request = HttpRequest.newBuilder(uri("/pdf")).POST(HttpRequest.BodyPublishers.ofString(body(JSON_MONTH))).build();
+
+		// execute
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+		// assert
+		assertEquals(200, response.statusCode());
+		assertEquals("%PDF", new String(response.body(), 0, 4, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void testPdfSortsEntries() throws IOException, InterruptedException {
+		// data
+		HttpRequest request = HttpRequest.newBuilder(uri("/pdf?keepForm=true")).POST(HttpRequest.BodyPublishers.ofString(body(JSON_MONTH_UNSORTED))).build();
+
+		// execute
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+		// assert
+		assertEquals(200, response.statusCode());
+		try (PDDocument document = Loader.loadPDF(response.body())) {
+			PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+			assertEquals("Erste", form.getField("Tätigkeit Stichwort ProjektRow1").getValueAsString());
+			assertEquals("Zweite", form.getField("Tätigkeit Stichwort ProjektRow2").getValueAsString());
+		}
+	}
+
+	@Test
+	public void testMalformedRequest() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = post("/latex", "{\"month\": {}}");
+
+		// assert
+		assertEquals(400, response.statusCode());
+	}
+
+	@Test
+	public void testWrongMethod() throws IOException, InterruptedException {
+		// execute
+		HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/latex")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+		// assert
+		assertEquals(405, response.statusCode());
+	}
+
+	@Test
+	public void testMetrics() throws IOException, InterruptedException {
+		// data
+		post("/validate", body(JSON_MONTH));
+
+		// execute
+		HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/metrics")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+		// assert
+		assertEquals(200, response.statusCode());
+		assertTrue(response.body().contains("\"/validate\""));
+		assertTrue(response.body().contains("\"requestsPerSecond\""));
+	}
+
+	private static HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static URI uri(String path) {
+		return URI.create("http://localhost:" + server.getPort() + path);
+	}
+
+	private static String body(String month) {
+		return "{\"global\": " + JSON_GLOBAL + ", \"month\": " + month + "}";
+	}
+}
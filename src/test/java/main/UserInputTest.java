@@ -0,0 +1,53 @@
+/* Licensed under MIT 2025. */
+package main;
+
+import main.request.BatchRequest;
+import main.request.Request;
+import main.request.RequestType;
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UserInputTest {
+
+	private static final String[] BATCH_ARGUMENTS = { "--batch", "global.json", "months", "output" };
+
+	@Test
+	public void testBatchThreads() throws ParseException {
+		// execute
+		Request request = new UserInput(withThreads("3")).parse();
+		// assert
+		assertEquals(RequestType.BATCH, request.getType());
+		assertEquals(3, ((BatchRequest) request).getThreads());
+	}
+
+	@Test
+	public void testBatchDefaultThreads() throws ParseException {
+		// execute
+		Request request = new UserInput(BATCH_ARGUMENTS).parse();
+		// assert
+		assertEquals(Runtime.getRuntime().availableProcessors(), ((BatchRequest) request).getThreads());
+	}
+
+	@Test
+	public void testInvalidThreads() {
+		// assert
+		assertThrows(ParseException.class, () -> new UserInput(withThreads("0")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(withThreads("-2")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(withThreads("many")).parse());
+	}
+
+	@Test
+	public void testBatchExclusiveWithFile() {
+		// data
+		String[] args = { "--batch", "global.json", "months", "output", "--file", "global.json", "month.json", "output.tex" };
+		// assert
+		assertThrows(ParseException.class, () -> new UserInput(args).parse());
+	}
+
+	private static String[] withThreads(String threads) {
+		return new String[] { BATCH_ARGUMENTS[0], BATCH_ARGUMENTS[1], BATCH_ARGUMENTS[2], BATCH_ARGUMENTS[3], "--threads", threads };
+	}
+}
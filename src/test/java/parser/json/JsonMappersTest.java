@@ -0,0 +1,53 @@
+/* Licensed under MIT 2025. */
+package parser.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonMappersTest {
+
+	private static final String JSON_UNKNOWN_PROPERTY = "{\"name\": \"Max Mustermann\", \"unknown\": true}";
+
+	@Test
+	public void testReadersAndWritersAreShared() {
+		// assert
+		assertSame(JsonMappers.getDataReader(MonthJson.class), JsonMappers.getDataReader(MonthJson.class));
+		assertSame(JsonMappers.getUiReader(Settings.class), JsonMappers.getUiReader(Settings.class));
+		assertSame(JsonMappers.getLenientUiReader(Settings.class), JsonMappers.getLenientUiReader(Settings.class));
+		assertSame(JsonMappers.getUiWriter(Settings.class), JsonMappers.getUiWriter(Settings.class));
+	}
+
+	@Test
+	public void testUiReaderRejectsUnknownProperties() {
+		// assert
+		assertThrows(UnrecognizedPropertyException.class, () -> JsonMappers.getUiReader(Settings.class).readValue(JSON_UNKNOWN_PROPERTY));
+	}
+
+	@Test
+	public void testLenientUiReaderIgnoresUnknownProperties() throws JsonProcessingException {
+		// execute
+		Settings settings = JsonMappers.getLenientUiReader(Settings.class).readValue(JSON_UNKNOWN_PROPERTY);
+		// assert
+		assertEquals("Max Mustermann", settings.name);
+	}
+
+	@Test
+	public void testUiWriterIndentsOutput() throws JsonProcessingException {
+		// data
+		Settings settings = new Settings();
+		settings.name = "Max Mustermann";
+		// execute
+		String json = JsonMappers.getUiWriter(Settings.class).writeValueAsString(settings);
+		// assert
+		assertEquals("{\n  \"name\" : \"Max Mustermann\"\n}", json.replace(System.lineSeparator(), "\n"));
+	}
+
+	public static class Settings {
+		public String name;
+	}
+}
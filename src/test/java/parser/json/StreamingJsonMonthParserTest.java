@@ -0,0 +1,149 @@
+/* Licensed under MIT 2025. */
+package parser.json;
+
+import data.Entry;
+import data.TimeSpan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.IMonthParser;
+import parser.ParseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingJsonMonthParserTest {
+
+	private static final String JSON_EXAMPLE_FULL = "{" + "\"$schema\": \"https://example.org/month.json\"," + "\"year\": 2019," + "\"month\": 11,"
+			+ "\"pred_transfer\": \"2:00\"," + "\"succ_transfer\": \"1:00\"," + "\"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 4, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"},"
+			+ "{\"action\": \"Urlaub in Italien\", \"day\": 11, \"start\": \"09:00\", \"end\": \"12:00\", \"vacation\": true}" + "]" + "}";
+	private static final String JSON_ENTRIES_FIRST = "{" + "\"entries\": [" + "{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\"}"
+			+ "]," + "\"month\": 11," + "\"year\": 2019" + "}";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	public void testParseFullExample() throws ParseException {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream(JSON_EXAMPLE_FULL));
+		Entry[] expectedEntries = new Entry[] {
+				new Entry("Korrektur", LocalDate.of(2019, 11, 2), new TimeSpan(10, 0), new TimeSpan(11, 0), new TimeSpan(0, 0), false),
+				new Entry("Fragen beantworten", LocalDate.of(2019, 11, 4), new TimeSpan(11, 31), new TimeSpan(15, 11), new TimeSpan(0, 30), false),
+				new Entry("Urlaub in Italien", LocalDate.of(2019, 11, 11), new TimeSpan(9, 0), new TimeSpan(12, 0), new TimeSpan(0, 0), true) };
+
+		// assert
+		assertEquals(YearMonth.of(2019, 11), parser.getYearMonth());
+		assertEquals(new TimeSpan(2, 0), parser.getPredTransfer());
+		assertEquals(new TimeSpan(1, 0), parser.getSuccTransfer());
+		assertArrayEquals(expectedEntries, parser.getEntries());
+	}
+
+	@Test
+	public void testParseSameAsDataBinding() throws ParseException {
+		// data
+		IMonthParser streamingParser = new StreamingJsonMonthParser(toStream(JSON_EXAMPLE_FULL));
+		IMonthParser bindingParser = new JsonMonthParser(JSON_EXAMPLE_FULL);
+
+		// assert
+		assertEquals(bindingParser.getYearMonth(), streamingParser.getYearMonth());
+		assertEquals(bindingParser.getPredTransfer(), streamingParser.getPredTransfer());
+		assertEquals(bindingParser.getSuccTransfer(), streamingParser.getSuccTransfer());
+		assertArrayEquals(bindingParser.getEntries(), streamingParser.getEntries());
+	}
+
+	@Test
+	public void testParseEntriesBeforeYearMonth() throws ParseException {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream(JSON_ENTRIES_FIRST));
+
+		// execute
+		Entry[] entries = parser.getEntries();
+
+		// assert
+		assertEquals(1, entries.length);
+		assertEquals(LocalDate.of(2019, 11, 2), entries[0].getDate());
+		assertEquals(new TimeSpan(0, 0), parser.getPredTransfer());
+	}
+
+	@Test
+	public void testParseFromFile() throws ParseException, IOException {
+		// data
+		Path monthFile = directory.resolve("month.json");
+		Files.writeString(monthFile, JSON_EXAMPLE_FULL);
+		IMonthParser parser = new StreamingJsonMonthParser(monthFile);
+
+		// assert
+		assertEquals(3, parser.getEntries().length);
+	}
+
+	@Test
+	public void testParseMissingYear() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream("{\"month\": 11, \"entries\": []}"));
+
+		// assert
+		assertThrows(ParseException.class, parser::getYearMonth);
+	}
+
+	@Test
+	public void testParseMissingEntryStart() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream("{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"a\", \"day\": 2, \"end\": \"11:00\"}]}"));
+
+		// assert
+		assertThrows(ParseException.class, parser::getEntries);
+	}
+
+	@Test
+	public void testParseUnknownProperty() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream("{\"year\": 2019, \"month\": 11, \"entries\": [], \"unknown\": 1}"));
+
+		// assert
+		assertThrows(ParseException.class, parser::getYearMonth);
+	}
+
+	@Test
+	public void testParseInvalidDay() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(
+				toStream("{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"a\", \"day\": 31, \"start\": \"10:00\", \"end\": \"11:00\"}]}"));
+
+		// assert
+		assertThrows(ParseException.class, parser::getEntries);
+	}
+
+	@Test
+	public void testParseMalformedJson() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(toStream("{\"year\": 2019, \"month\": "));
+
+		// assert
+		assertThrows(ParseException.class, parser::getYearMonth);
+	}
+
+	@Test
+	public void testParseMissingFile() {
+		// data
+		IMonthParser parser = new StreamingJsonMonthParser(directory.resolve("missing.json"));
+
+		// assert
+		assertThrows(ParseException.class, parser::getYearMonth);
+	}
+
+	private static InputStream toStream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
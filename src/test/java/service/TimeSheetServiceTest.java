@@ -0,0 +1,131 @@
+/* Licensed under MIT 2025. */
+package service;
+
+import checker.ExportType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeSheetServiceTest {
+
+	private static final String JSON_GLOBAL = "{\"name\": \"Max Mustermann\", \"staffId\": 1234567, \"department\": \"Fakultät für Informatik\","
+			+ " \"workingTime\": \"40:00\", \"wage\": 12.41, \"workingArea\": \"ub\"}";
+	private static final String JSON_MONTH = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 4, \"start\": \"10:00\", \"end\": \"11:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 5, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"}]}";
+	private static final String JSON_MONTH_INVALID = "{\"year\": 2019, \"month\": 11, \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 3, \"start\": \"10:00\", \"end\": \"11:00\"}]}";
+
+	private static TimeSheetService service;
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		service = new TimeSheetService();
+	}
+
+	@Test
+	public void testGenerateLatexValid() {
+		// execute
+		TimeSheetResult result = service.generateLatex(JSON_GLOBAL, toStream(JSON_MONTH), false);
+
+		// assert
+		assertEquals(TimeSheetResult.Status.VALID, result.getStatus());
+		assertTrue(result.isValid());
+		assertTrue(result.getTimeSheet().isPresent());
+		assertTrue(result.getErrors().isEmpty());
+		assertTrue(result.getOutput().orElseThrow().contains("Fragen beantworten"));
+		assertTrue(result.getFailure().isEmpty());
+	}
+
+	@Test
+	public void testGenerateLatexInvalid() {
+		// execute
+		TimeSheetResult result = service.generateLatex(JSON_GLOBAL, toStream(JSON_MONTH_INVALID), false);
+
+		// assert
+		assertEquals(TimeSheetResult.Status.INVALID, result.getStatus());
+		assertTrue(result.getTimeSheet().isPresent());
+		assertFalse(result.getErrors().isEmpty());
+		assertEquals(result.getErrors().size(), result.getErrorMessages().size());
+		assertTrue(result.getOutput().isEmpty());
+	}
+
+	@Test
+	public void testWriteLatex() throws IOException {
+		// data
+		TimeSheetResult validation = service.validate(JSON_GLOBAL, toStream(JSON_MONTH), ExportType.EXPORT_LATEX);
+		StringWriter writer = new StringWriter();
+
+		// execute
+		service.writeLatex(validation.getTimeSheet().orElseThrow(), false, writer);
+
+		// assert
+		assertEquals(service.generateLatex(JSON_GLOBAL, toStream(JSON_MONTH), false).getOutput().orElseThrow(), writer.toString());
+	}
+
+	@Test
+	public void testGenerateLatexMalformed() {
+		// execute
+		TimeSheetResult result = service.generateLatex(JSON_GLOBAL, toStream("{\"year\": 2019, \"month\": "), false);
+
+		// assert
+		assertEquals(TimeSheetResult.Status.FAILED, result.getStatus());
+		assertTrue(result.getTimeSheet().isEmpty());
+		assertTrue(result.getFailure().isPresent());
+		assertTrue(result.getOutput().isEmpty());
+	}
+
+	@Test
+	public void testValidateHasNoOutput() {
+		// execute
+		TimeSheetResult result = service.validate(JSON_GLOBAL, toStream(JSON_MONTH), ExportType.EXPORT_PDF);
+
+		// assert
+		assertTrue(result.isValid());
+		assertTrue(result.getOutput().isEmpty());
+	}
+
+	@Test
+	public void testGenerateLatexConcurrently() throws InterruptedException, ExecutionException {
+		// data
+		String expected = service.generateLatex(JSON_GLOBAL, toStream(JSON_MONTH), false).getOutput().orElseThrow();
+		List<Future<TimeSheetResult>> futures = new ArrayList<>();
+
+		// execute
+		try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+			for (int i = 0; i < 32; i++) {
+				String month = i % 2 == 0 ? JSON_MONTH : JSON_MONTH_INVALID;
+				futures.add(executor.submit(() -> service.generateLatex(JSON_GLOBAL, toStream(month), false)));
+			}
+		}
+
+		// assert
+		for (int i = 0; i < futures.size(); i++) {
+			TimeSheetResult result = futures.get(i).get();
+			if (i % 2 == 0) {
+				assertEquals(expected, result.getOutput().orElseThrow());
+			} else {
+				assertEquals(TimeSheetResult.Status.INVALID, result.getStatus());
+			}
+		}
+	}
+
+	private static InputStream toStream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,58 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import checker.ExportType;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.junit.jupiter.api.Test;
+import ui.export.PdfFormLayout.HeaderField;
+import ui.export.PdfFormLayout.RowField;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PdfFormLayoutTest {
+
+	@Test
+	public void testRowCountMatchesPdfExport() {
+		// assert
+		assertEquals(ExportType.EXPORT_PDF.getMaxEntries(), PdfFormLayout.ROW_COUNT);
+	}
+
+	@Test
+	public void testFieldsAreResolved() throws IOException {
+		// data
+		try (PDDocument document = PdfTemplate.getInstance().load()) {
+			PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+			PdfFormLayout layout = PdfFormLayout.resolve(form);
+			// execute
+			layout.setValue(HeaderField.NAME, "Mustermann, Max");
+			layout.setValue(0, RowField.ACTION, "Korrektur");
+			layout.setValue(PdfFormLayout.ROW_COUNT - 1, RowField.TIME, "01:00");
+			// assert
+			assertEquals("Mustermann, Max", form.getField("GF").getValueAsString());
+			assertEquals("Korrektur", form.getField("Tätigkeit Stichwort ProjektRow1").getValueAsString());
+			assertEquals("01:00", form.getField("hhmmRow%d_4".formatted(PdfFormLayout.ROW_COUNT)).getValueAsString());
+		}
+	}
+
+	@Test
+	public void testValidateMissingField() throws IOException {
+		// data
+		Set<String> fieldNames = new HashSet<>(PdfTemplate.getInstance().getFieldNames());
+		fieldNames.remove("hhmmRow%d_4".formatted(PdfFormLayout.ROW_COUNT));
+		// assert
+		assertThrows(IOException.class, () -> PdfFormLayout.validate(fieldNames));
+	}
+
+	@Test
+	public void testValidateWithoutForm() {
+		// assert
+		assertThrows(IOException.class, () -> PdfFormLayout.validate(Set.of()));
+		assertThrows(IOException.class, () -> PdfFormLayout.resolve(null));
+	}
+}
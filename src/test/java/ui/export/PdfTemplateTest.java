@@ -0,0 +1,43 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfTemplateTest {
+
+	@Test
+	public void testTemplateIsShared() throws IOException {
+		// assert
+		assertSame(PdfTemplate.getInstance(), PdfTemplate.getInstance());
+	}
+
+	@Test
+	public void testFieldNamesAreResolved() throws IOException {
+		// execute
+		PdfTemplate template = PdfTemplate.getInstance();
+		// assert
+		assertTrue(template.getFieldNames().contains("GF"));
+		assertTrue(template.getFieldNames().contains("hhmmRow1_4"));
+	}
+
+	@Test
+	public void testLoadedDocumentsAreIndependent() throws IOException {
+		// data
+		PdfTemplate template = PdfTemplate.getInstance();
+		// execute
+		try (PDDocument first = template.load(); PDDocument second = template.load()) {
+			first.getDocumentCatalog().getAcroForm().getField("GF").setValue("Max Mustermann");
+			// assert
+			assertNotSame(first, second);
+			assertEquals("", second.getDocumentCatalog().getAcroForm().getField("GF").getValueAsString());
+		}
+	}
+}
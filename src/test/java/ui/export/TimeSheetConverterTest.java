@@ -0,0 +1,106 @@
+/* Licensed under MIT 2025. */
+package ui.export;
+
+import checker.ExportType;
+import data.TimeSheet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.ParseException;
+import parser.Parser;
+import parser.json.JsonMappers;
+import ui.json.Global;
+import ui.json.Month;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeSheetConverterTest {
+
+	private static final String JSON_GLOBAL = "{\"name\": \"Max Mustermann\", \"staffId\": 1234567, \"department\": \"Fakultät für Informatik\","
+			+ " \"workingTime\": \"40:00\", \"wage\": 12.41, \"workingArea\": \"ub\"}";
+	private static final String JSON_MONTH = "{\"year\": 2019, \"month\": 11, \"pred_transfer\": \"1:00\", \"succ_transfer\": \"0:30\", \"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 4, \"start\": \"10:00\", \"end\": \"11:00\", \"pause\": \"00:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 5, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"},"
+			+ "{\"action\": \"Urlaub\", \"day\": 6, \"start\": \"09:00\", \"end\": \"12:00\", \"vacation\": true}]}";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	public void testSameAsParsedFiles() throws IOException, ParseException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		// execute
+		TimeSheet converted = TimeSheetConverter.toTimeSheet(global, month);
+		// assert
+		assertEquals(Parser.parseTimeSheetJson(JSON_GLOBAL, JSON_MONTH), converted);
+	}
+
+	@Test
+	public void testVacationPauseIsIgnored() throws IOException, ParseException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		month.getEntries().get(2).setPause("00:30");
+		// execute
+		TimeSheet converted = TimeSheetConverter.toTimeSheet(global, month);
+		// assert
+		assertEquals(0, converted.getEntries().get(2).getPause().getMinute());
+	}
+
+	@Test
+	public void testMissingWorkingTime() throws IOException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		global.setWorkingTime(null);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		// assert
+		assertThrows(ParseException.class, () -> TimeSheetConverter.toTimeSheet(global, month));
+	}
+
+	@Test
+	public void testInvalidDay() throws IOException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		month.getEntries().getFirst().setDay(31);
+		// assert
+		assertThrows(ParseException.class, () -> TimeSheetConverter.toTimeSheet(global, month));
+	}
+
+	@Test
+	public void testValidateAndCompileInMemory() throws IOException, ParseException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		File texFile = directory.resolve("month.tex").toFile();
+		// execute
+		Optional<String> validationError = TexCompiler.validateContents(global, month, ExportType.EXPORT_LATEX);
+		Optional<String> compileError = TexCompiler.compileToTex(global, month, texFile);
+		// assert
+		assertEquals(Optional.empty(), validationError);
+		assertEquals(Optional.empty(), compileError);
+		assertTrue(Files.readString(texFile.toPath()).contains("Fragen beantworten"));
+	}
+
+	@Test
+	public void testValidateInvalidMonth() throws IOException {
+		// data
+		Global global = JsonMappers.getUiReader(Global.class).readValue(JSON_GLOBAL);
+		Month month = JsonMappers.getUiReader(Month.class).readValue(JSON_MONTH);
+		month.getEntries().getFirst().setStart("23:00");
+		month.getEntries().getFirst().setEnd("23:30");
+		// execute
+		Optional<String> error = TexCompiler.validateContents(global, month, ExportType.EXPORT_LATEX);
+		// assert
+		assertTrue(error.isPresent());
+	}
+}